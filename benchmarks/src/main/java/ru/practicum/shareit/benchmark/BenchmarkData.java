@@ -0,0 +1,73 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.dto.BookingShortDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.requests.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+    private static final LocalDateTime NOW = LocalDateTime.of(2022, 9, 1, 12, 0);
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("User " + id);
+        user.setEmail("user" + id + "@test.com");
+        return user;
+    }
+
+    static ItemRequest itemRequest(long id, User requestor) {
+        ItemRequest itemRequest = new ItemRequest();
+        itemRequest.setId(id);
+        itemRequest.setDescription("Нужна аккумуляторная дрель " + id);
+        itemRequest.setRequestor(requestor);
+        itemRequest.setCreated(NOW.minusHours(id));
+        return itemRequest;
+    }
+
+    static Item item(long id, User owner, ItemRequest itemRequest, int comments) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName("Дрель " + id);
+        item.setDescription("Аккумуляторная ударная дрель с двумя батареями, номер " + id);
+        item.setAvailable(true);
+        item.setOwner(owner);
+        item.setRequest(itemRequest);
+        item.setLastBooking(new BookingShortDto(id * 10, owner.getId() + 1, id, NOW.minusDays(2)));
+        item.setNextBooking(new BookingShortDto(id * 10 + 1, owner.getId() + 2, id, NOW.plusDays(2)));
+
+        List<Comment> itemComments = new ArrayList<>();
+        for (int i = 0; i < comments; i++) {
+            Comment comment = new Comment();
+            comment.setId(id * 100 + i);
+            comment.setText("Отличная дрель, сверлит бетон без проблем");
+            comment.setAuthor(user(owner.getId() + i + 1));
+            comment.setItem(item);
+            comment.setCreatedAt(NOW.minusDays(i));
+            itemComments.add(comment);
+        }
+        item.setComments(itemComments);
+        return item;
+    }
+
+    static Booking booking(long id, Item item, User booker) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStart(NOW.plusDays(id % 30));
+        booking.setEnd(NOW.plusDays(id % 30 + 1));
+        booking.setStatus(BookingStatus.APPROVED);
+        return booking;
+    }
+}
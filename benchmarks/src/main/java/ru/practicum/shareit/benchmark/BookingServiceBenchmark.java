@@ -0,0 +1,117 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ServerApplication;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.service.BookingService;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookingServiceBenchmark {
+    private static final int USERS = 1_000;
+    private static final int ITEMS = 5_000;
+    private static final int BOOKINGS = 100_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int PAGE_SIZE = 20;
+    private static final long USER_ID = 42;
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING"})
+    private BookingState state;
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.orm.jpa=WARN",
+                        "--logging.level.org.springframework.transaction=WARN",
+                        "--logging.level.org.springframework.transaction.interceptor=WARN",
+                        "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+        bookingService = context.getBean(BookingService.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> bookingsByBooker() {
+        return bookingService.getBookings(USER_ID, state, 0, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public List<BookingResponseDto> bookingsByItemOwner() {
+        return bookingService.getBookingsByItemOwner(USER_ID, state, 0, PAGE_SIZE, null);
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> users = new ArrayList<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            users.add(new Object[]{userId, "User " + userId, "user" + userId + "@test.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_id, name, email) VALUES (?, ?, ?)", users);
+
+        List<Object[]> items = new ArrayList<>();
+        for (long itemId = 1; itemId <= ITEMS; itemId++) {
+            items.add(new Object[]{itemId, "Item " + itemId, "Description " + itemId, true, itemId % USERS + 1});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO items (item_id, name, description, available, owner_id) VALUES (?, ?, ?, ?, ?)", items);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> bookings = new ArrayList<>();
+        for (long bookingId = 1; bookingId <= BOOKINGS; bookingId++) {
+            LocalDateTime start = now.plusDays(bookingId % 60 - 30);
+            String status = bookingId % 10 == 0 ? "REJECTED" : bookingId % 5 == 0 ? "WAITING" : "APPROVED";
+            bookings.add(new Object[]{bookingId, bookingId % ITEMS + 1, bookingId * 7 % USERS + 1,
+                    Timestamp.valueOf(start), Timestamp.valueOf(start.plusDays(2)), status});
+
+            if (bookings.size() == BATCH_SIZE) {
+                insertBookings(jdbcTemplate, bookings);
+                bookings.clear();
+            }
+        }
+        insertBookings(jdbcTemplate, bookings);
+    }
+
+    private static void insertBookings(JdbcTemplate jdbcTemplate, List<Object[]> bookings) {
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (booking_id, item_id, booker_id, start_date, end_date, status) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", bookings);
+    }
+}
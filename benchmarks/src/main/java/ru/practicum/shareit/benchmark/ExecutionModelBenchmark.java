@@ -0,0 +1,102 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.ServerApplication;
+import ru.practicum.shareit.config.VirtualThreads;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(400)
+@Fork(1)
+public class ExecutionModelBenchmark {
+    private static final int PAGE_SIZE = 20;
+    private static final int USERS = 1_000;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"10"})
+    private int connectionPoolSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI bookingsUri;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            throw new IllegalStateException("Вариант virtualThreads=true требует Java 21 или новее, "
+                    + "для текущей версии запустите бенчмарк с -p virtualThreads=false");
+        }
+
+        context = new SpringApplicationBuilder(ServerApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--shareit.threads.virtual=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:execution-model;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=" + connectionPoolSize,
+                        "--spring.datasource.hikari.connection-timeout=60000",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.orm.jpa=WARN",
+                        "--logging.level.org.springframework.transaction=WARN",
+                        "--logging.level.org.springframework.transaction.interceptor=WARN",
+                        "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN");
+        BookingServiceBenchmark.seed(context.getBean(JdbcTemplate.class));
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        bookingsUri = URI.create("http://localhost:" + port + "/bookings?state=ALL&from=0&size=" + PAGE_SIZE);
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int bookingListing() throws IOException, InterruptedException {
+        long userId = ThreadLocalRandom.current().nextInt(USERS) + 1;
+        HttpRequest request = HttpRequest.newBuilder(bookingsUri)
+                .header("X-Sharer-User-Id", Long.toString(userId))
+                .GET()
+                .build();
+
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Неожиданный ответ сервера: " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
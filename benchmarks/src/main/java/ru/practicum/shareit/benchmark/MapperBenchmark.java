@@ -0,0 +1,73 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.item.dto.ItemResponseDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.requests.dto.ItemReqResponseDto;
+import ru.practicum.shareit.requests.mapper.ItemRequestMapper;
+import ru.practicum.shareit.requests.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"0", "5", "50"})
+    private int comments;
+
+    private Booking booking;
+    private Item item;
+    private ItemRequest itemRequest;
+
+    @Setup
+    public void setUp() {
+        User owner = BenchmarkData.user(1);
+        User requestor = BenchmarkData.user(2);
+
+        itemRequest = BenchmarkData.itemRequest(1, requestor);
+        item = BenchmarkData.item(1, owner, itemRequest, comments);
+        booking = BenchmarkData.booking(1, item, requestor);
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < comments; i++) {
+            items.add(BenchmarkData.item(i + 2, owner, itemRequest, 0));
+        }
+        itemRequest.setItems(items);
+    }
+
+    @Benchmark
+    public BookingResponseDto bookingToDto() {
+        return BookingMapper.bookingToDto(booking);
+    }
+
+    @Benchmark
+    public ItemResponseDto itemToDto() {
+        return ItemMapper.itemToDto(item);
+    }
+
+    @Benchmark
+    public ItemReqResponseDto itemRequestToDto() {
+        return ItemRequestMapper.itemRequestToDto(itemRequest);
+    }
+}
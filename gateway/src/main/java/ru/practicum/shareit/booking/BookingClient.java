@@ -1,59 +1,73 @@
 package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.Bulkhead;
+import ru.practicum.shareit.client.Bulkheads;
+import ru.practicum.shareit.client.CircuitBreakers;
+import ru.practicum.shareit.client.ServerLoadBalancer;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(ClientHttpConnector connector,
+                         ServerLoadBalancer loadBalancer,
+                         Bulkheads bulkheads,
+                         CircuitBreakers circuitBreakers,
+                         WebClient.Builder builder) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .uriBuilderFactory(new DefaultUriBuilderFactory(ServerLoadBalancer.BASE_URL + API_PREFIX))
+                        .clientConnector(connector)
+                        .filter(loadBalancer)
+                        .build(),
+                null,
+                bulkheads,
+                circuitBreakers,
+                Bulkhead.BOOKINGS
         );
     }
 
-    public ResponseEntity<Object> getBookings(long userId, BookingState state, int from, int size) {
-        Map<String, Object> parameters = Map.of(
+    public CompletableFuture<ResponseEntity<Object>> getBookings(long userId, BookingState state, int from, int size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "state", state.name(),
                 "from", from,
                 "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+        ));
+        return get(withCursor("?state={state}&from={from}&size={size}", parameters, cursor), userId, parameters);
     }
 
-    public ResponseEntity<Object> getBookingsByItemOwner(long userId, BookingState state, int from, int size) {
-        Map<String, Object> parameters = Map.of(
+    public CompletableFuture<ResponseEntity<Object>> getBookingsByItemOwner(long userId, BookingState state, int from, int size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "state", state.name(),
                 "from", from,
                 "size", size
-        );
-        return get("/owner/?state={state}&from={from}&size={size}", userId, parameters);
+        ));
+        return get(withCursor("/owner/?state={state}&from={from}&size={size}", parameters, cursor), userId, parameters);
     }
 
-    public ResponseEntity<Object> createBooking(long userId, BookingRequestDto requestDto) {
+    public CompletableFuture<ResponseEntity<Object>> createBooking(long userId, BookingRequestDto requestDto) {
         return post("", userId, requestDto);
     }
 
-    public ResponseEntity<Object> getBooking(long userId, long bookingId) {
+    public CompletableFuture<ResponseEntity<Object>> getBooking(long userId, long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> changeStatus(long userId, long bookingId, boolean approved) {
+    public CompletableFuture<ResponseEntity<Object>> changeStatus(long userId, long bookingId, boolean approved) {
         Map<String, Object> parameters = Map.of(
                 "approved", approved
         );
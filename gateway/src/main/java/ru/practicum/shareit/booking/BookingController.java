@@ -12,6 +12,7 @@ import ru.practicum.shareit.exception.CrossDateException;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Validated
@@ -26,42 +27,44 @@ public class BookingController {
     }
 
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBooking(@RequestHeader("X-Sharer-User-Id") long userId,
-                                             @PathVariable long bookingId) {
+    public CompletableFuture<ResponseEntity<Object>> getBooking(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                @PathVariable long bookingId) {
         log.info("Get booking bookingId={}, userId={}", bookingId, userId);
         return bookingClient.getBooking(userId, bookingId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getBookings(@RequestHeader("X-Sharer-User-Id") long userId,
-                                              @RequestParam(defaultValue = "ALL") BookingState state,
-                                              @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                              @RequestParam(defaultValue = "10") @Positive int size) {
-        log.info("Get bookings with state {}, userId={}, from={}, size={}", state, userId, from, size);
-        return bookingClient.getBookings(userId, state, from, size);
+    public CompletableFuture<ResponseEntity<Object>> getBookings(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                 @RequestParam(defaultValue = "ALL") BookingState state,
+                                                                 @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                                                 @RequestParam(defaultValue = "10") @Positive int size,
+                                                                 @RequestParam(required = false) String cursor) {
+        log.info("Get bookings with state {}, userId={}, from={}, size={}, cursor={}", state, userId, from, size, cursor);
+        return bookingClient.getBookings(userId, state, from, size, cursor);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getBookingsByItemOwner(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                         @RequestParam(defaultValue = "ALL") BookingState state,
-                                                         @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                                         @RequestParam(defaultValue = "10") @Positive int size) {
-        log.info("Get bookings with state {}, userId={}, from={}, size={}", state, userId, from, size);
-        return bookingClient.getBookingsByItemOwner(userId, state, from, size);
+    public CompletableFuture<ResponseEntity<Object>> getBookingsByItemOwner(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                            @RequestParam(defaultValue = "ALL") BookingState state,
+                                                                            @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                                                            @RequestParam(defaultValue = "10") @Positive int size,
+                                                                            @RequestParam(required = false) String cursor) {
+        log.info("Get bookings with state {}, userId={}, from={}, size={}, cursor={}", state, userId, from, size, cursor);
+        return bookingClient.getBookingsByItemOwner(userId, state, from, size, cursor);
     }
 
     @PostMapping
-    public ResponseEntity<Object> createBooking(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                @RequestBody @Valid BookingRequestDto bookingDto) {
+    public CompletableFuture<ResponseEntity<Object>> createBooking(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                   @RequestBody @Valid BookingRequestDto bookingDto) {
         log.info("Creating booking {}, userId={}", bookingDto, userId);
         checkBookingDate(bookingDto);
         return bookingClient.createBooking(userId, bookingDto);
     }
 
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> changeStatus(@RequestHeader("X-Sharer-User-Id") long userId,
-                                               @PathVariable long bookingId,
-                                               @RequestParam boolean approved) {
+    public CompletableFuture<ResponseEntity<Object>> changeStatus(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                  @PathVariable long bookingId,
+                                                                  @RequestParam boolean approved) {
         log.info("Changing booking status bookingId={}, userId={}, status={}", bookingId, userId, approved);
         return bookingClient.changeStatus(userId, bookingId, approved);
     }
@@ -3,98 +3,281 @@ package ru.practicum.shareit.client;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.lang.Nullable;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class BaseClient {
-    protected final RestTemplate rest;
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization",
+            "te", "trailer", "transfer-encoding", "upgrade", "content-length", "date"
+    );
+
+    protected final WebClient webClient;
+    @Nullable
+    private final ResponseCache responseCache;
+    private final String cacheNamespace = getClass().getSimpleName() + ":";
+    private final Map<String, CompletableFuture<ResponseEntity<Object>>> inFlightGets = new ConcurrentHashMap<>();
+    @Nullable
+    private final Bulkheads bulkheads;
+    @Nullable
+    private final CircuitBreakers circuitBreakers;
+    private final Bulkhead bulkhead;
+
+    public BaseClient(WebClient webClient) {
+        this(webClient, null);
+    }
+
+    public BaseClient(WebClient webClient, @Nullable ResponseCache responseCache) {
+        this(webClient, responseCache, null, Bulkhead.ITEMS);
+    }
+
+    public BaseClient(WebClient webClient,
+                      @Nullable ResponseCache responseCache,
+                      @Nullable Bulkheads bulkheads,
+                      Bulkhead bulkhead) {
+        this(webClient, responseCache, bulkheads, null, bulkhead);
+    }
 
     @Autowired
-    public BaseClient(RestTemplate rest) {
-        this.rest = rest;
+    public BaseClient(WebClient webClient,
+                      @Nullable ResponseCache responseCache,
+                      @Nullable Bulkheads bulkheads,
+                      @Nullable CircuitBreakers circuitBreakers,
+                      Bulkhead bulkhead) {
+        this.webClient = webClient;
+        this.responseCache = responseCache;
+        this.bulkheads = bulkheads;
+        this.circuitBreakers = circuitBreakers;
+        this.bulkhead = bulkhead;
     }
 
-    protected ResponseEntity<Object> get(String path) {
+    protected CompletableFuture<ResponseEntity<Object>> get(String path) {
         return get(path, null, null);
     }
 
-    protected ResponseEntity<Object> get(String path, long userId) {
+    protected CompletableFuture<ResponseEntity<Object>> get(String path, long userId) {
         return get(path, userId, null);
     }
 
-    protected ResponseEntity<Object> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
-        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    protected CompletableFuture<ResponseEntity<Object>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return singleFlight(cacheKey(path, parameters, userId),
+                () -> makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null));
+    }
+
+    protected CompletableFuture<ResponseEntity<Object>> getCached(String path, @Nullable Long userId, boolean userSpecific) {
+        return getCached(path, userId, null, userSpecific);
+    }
+
+    protected CompletableFuture<ResponseEntity<Object>> getCached(String path,
+                                                                  @Nullable Long userId,
+                                                                  @Nullable Map<String, Object> parameters,
+                                                                  boolean userSpecific) {
+        if (responseCache == null || !responseCache.isEnabled()) {
+            return get(path, userId, parameters);
+        }
+
+        String key = cacheKey(path, parameters, userSpecific ? userId : null);
+        String resource = cacheResource(path, parameters);
+        long generation = responseCache.generation();
+        ResponseCache.Entry cached = responseCache.find(key);
+        if (cached != null && cached.isFresh()) {
+            return CompletableFuture.completedFuture(responseCache.hit(cached));
+        }
+
+        HttpHeaders conditionalHeaders = new HttpHeaders();
+        if (cached != null) {
+            conditionalHeaders.setIfNoneMatch(cached.getEtag());
+        }
+        String flightKey = cacheKey(path, parameters, userId) + (cached != null ? " " + cached.getEtag() : "");
+        return singleFlight(flightKey, () -> makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null,
+                conditionalHeaders)
+                .thenApply(response -> cached != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED
+                        ? responseCache.revalidated(cached)
+                        : responseCache.store(key, resource, generation, response)));
     }
 
-    protected <T> ResponseEntity<Object> post(String path, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> post(String path, T body) {
         return post(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, long userId, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> post(String path, long userId, T body) {
         return post(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> post(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> put(String path, long userId, T body) {
         return put(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> put(String path, long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PUT, path, userId, parameters, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, T body) {
         return patch(path, null, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, long userId) {
         return patch(path, userId, null, null);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, long userId, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, long userId, T body) {
         return patch(path, userId, null, body);
     }
 
-    protected <T> ResponseEntity<Object> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
+    protected <T> CompletableFuture<ResponseEntity<Object>> patch(String path, Long userId, @Nullable Map<String, Object> parameters, T body) {
         return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
     }
 
-    protected ResponseEntity<Object> delete(String path) {
+    protected CompletableFuture<ResponseEntity<Object>> delete(String path) {
         return delete(path, null, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, long userId) {
+    protected CompletableFuture<ResponseEntity<Object>> delete(String path, long userId) {
         return delete(path, userId, null);
     }
 
-    protected ResponseEntity<Object> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
+    protected CompletableFuture<ResponseEntity<Object>> delete(String path, Long userId, @Nullable Map<String, Object> parameters) {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
-    private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method,
-                                                          String path,
-                                                          Long userId,
-                                                          @Nullable Map<String, Object> parameters,
-                                                          @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+    protected CompletableFuture<ResponseEntity<Object>> invalidateOnSuccess(CompletableFuture<ResponseEntity<Object>> write,
+                                                                         String... paths) {
+        if (responseCache == null) {
+            return write;
+        }
+        return write.thenApply(response -> {
+            if (response.getStatusCode().is2xxSuccessful()) {
+                for (String path : paths) {
+                    responseCache.invalidate(cacheNamespace + path);
+                }
+            }
+            return response;
+        });
+    }
 
-        ResponseEntity<Object> shareitServerResponse;
+    protected Bulkhead bulkheadFor(String path) {
+        return bulkhead;
+    }
+
+    protected String withCursor(String path, Map<String, Object> parameters, @Nullable String cursor) {
+        if (cursor == null) {
+            return path;
+        }
+        parameters.put("cursor", cursor);
+        return path + "&cursor={cursor}";
+    }
+
+    private <T> CompletableFuture<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method,
+                                                                             String path,
+                                                                             Long userId,
+                                                                             @Nullable Map<String, Object> parameters,
+                                                                             @Nullable T body) {
+        return makeAndSendRequest(method, path, userId, parameters, body, HttpHeaders.EMPTY);
+    }
+
+    private <T> CompletableFuture<ResponseEntity<Object>> makeAndSendRequest(HttpMethod method,
+                                                                             String path,
+                                                                             Long userId,
+                                                                             @Nullable Map<String, Object> parameters,
+                                                                             @Nullable T body,
+                                                                             HttpHeaders extraHeaders) {
+        Bulkhead route = bulkheadFor(path);
+        Supplier<CompletableFuture<ResponseEntity<Object>>> request =
+                () -> send(method, path, userId, parameters, body, extraHeaders);
+        Supplier<CompletableFuture<ResponseEntity<Object>>> limited = bulkheads == null
+                ? request
+                : () -> bulkheads.execute(route, request);
+        return circuitBreakers == null ? limited.get() : circuitBreakers.execute(route, limited);
+    }
+
+    private <T> CompletableFuture<ResponseEntity<Object>> send(HttpMethod method,
+                                                               String path,
+                                                               Long userId,
+                                                               @Nullable Map<String, Object> parameters,
+                                                               @Nullable T body,
+                                                               HttpHeaders extraHeaders) {
+        WebClient.RequestBodySpec request = webClient
+                .method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> {
+                    headers.addAll(defaultHeaders(userId));
+                    headers.addAll(extraHeaders);
+                });
+        WebClient.RequestHeadersSpec<?> shareitServerRequest = body != null ? request.bodyValue(body) : request;
+
+        return shareitServerRequest
+                .exchangeToMono(response -> response.bodyToMono(byte[].class)
+                        .map(bytes -> relay(response.rawStatusCode(), response.headers().asHttpHeaders(), bytes))
+                        .switchIfEmpty(Mono.fromSupplier(() ->
+                                relay(response.rawStatusCode(), response.headers().asHttpHeaders(), null))))
+                .toFuture();
+    }
+
+    private CompletableFuture<ResponseEntity<Object>> singleFlight(String key,
+                                                                   Supplier<CompletableFuture<ResponseEntity<Object>>> request) {
+        CompletableFuture<ResponseEntity<Object>> flight = new CompletableFuture<>();
+        CompletableFuture<ResponseEntity<Object>> inFlight = inFlightGets.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            return inFlight.copy();
+        }
+
+        CompletableFuture<ResponseEntity<Object>> response;
         try {
-            if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+            response = request.get();
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((result, error) -> {
+            inFlightGets.remove(key, flight);
+            if (error != null) {
+                flight.completeExceptionally(error);
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                flight.complete(result);
             }
-        } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsString());
+        });
+        return flight.copy();
+    }
+
+    private String cacheKey(String path, @Nullable Map<String, Object> parameters, @Nullable Long userId) {
+        String uri = expand(path, parameters);
+        return userId != null ? cacheNamespace + uri + "#" + userId : cacheNamespace + uri;
+    }
+
+    private String cacheResource(String path, @Nullable Map<String, Object> parameters) {
+        String uri = expand(path, parameters);
+        int query = uri.indexOf('?');
+        return cacheNamespace + (query >= 0 ? uri.substring(0, query) : uri);
+    }
+
+    private static String expand(String path, @Nullable Map<String, Object> parameters) {
+        return parameters != null
+                ? UriComponentsBuilder.fromUriString(path).buildAndExpand(parameters).toUriString()
+                : path;
+    }
+
+    private static ResponseEntity<Object> relay(int status, @Nullable HttpHeaders serverHeaders, @Nullable byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        if (serverHeaders != null) {
+            serverHeaders.forEach((name, values) -> {
+                if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    headers.addAll(name, values);
+                }
+            });
         }
-        return shareitServerResponse;
+        return ResponseEntity.status(status).headers(headers).body(body == null || body.length == 0 ? null : body);
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
@@ -106,4 +289,4 @@ public class BaseClient {
         }
         return headers;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.client;
+
+public enum Bulkhead {
+    SEARCH,
+    BOOKINGS,
+    ITEMS,
+    USERS,
+    REQUESTS
+}
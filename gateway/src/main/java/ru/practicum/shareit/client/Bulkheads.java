@@ -0,0 +1,82 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.exception.ServerOverloadedException;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@Component
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class Bulkheads {
+    private final ConcurrencyLimitProperties properties;
+    private final Map<Bulkhead, ConcurrencyLimiter> limiters = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Counter> rejections = new EnumMap<>(Bulkhead.class);
+
+    public Bulkheads(ConcurrencyLimitProperties properties,
+                     HttpClientProperties httpClientProperties,
+                     @Value("${shareit-server.url}") List<String> urls,
+                     MeterRegistry meterRegistry) {
+        this.properties = properties;
+        int connectionsPerBulkhead = httpClientProperties.getMaxConnectionsPerRoute() / Bulkhead.values().length;
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            ConcurrencyLimiter limiter = new ConcurrencyLimiter(properties, connectionsPerBulkhead, urls.size());
+            Tags tags = Tags.of("bulkhead", bulkhead.name().toLowerCase());
+            limiters.put(bulkhead, limiter);
+            rejections.put(bulkhead, Counter.builder("shareit.gateway.concurrency.rejected")
+                    .tags(tags)
+                    .register(meterRegistry));
+            Gauge.builder("shareit.gateway.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder("shareit.gateway.concurrency.in-flight", limiter, ConcurrencyLimiter::getInFlight)
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> execute(Bulkhead bulkhead,
+                                                             Supplier<CompletableFuture<ResponseEntity<Object>>> request) {
+        if (!properties.isEnabled()) {
+            return request.get();
+        }
+
+        ConcurrencyLimiter limiter = limiters.get(bulkhead);
+        if (!limiter.tryAcquire()) {
+            rejections.get(bulkhead).increment();
+            return CompletableFuture.failedFuture(
+                    new ServerOverloadedException("Сервер перегружен, повторите запрос позже"));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<ResponseEntity<Object>> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            limiter.release(System.nanoTime() - start, true);
+            throw e;
+        }
+        return response.whenComplete((result, error) ->
+                limiter.release(System.nanoTime() - start, error != null || isOverloaded(result)));
+    }
+
+    int limit(Bulkhead bulkhead) {
+        return limiters.get(bulkhead).getLimit();
+    }
+
+    private static boolean isOverloaded(ResponseEntity<Object> response) {
+        return response.getStatusCodeValue() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || response.getStatusCodeValue() == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+}
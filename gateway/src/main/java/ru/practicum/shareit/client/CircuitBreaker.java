@@ -0,0 +1,127 @@
+package ru.practicum.shareit.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+class CircuitBreaker {
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final boolean[] failures;
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private int position;
+    private int recordedCalls;
+    private int recordedFailures;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(CircuitBreakerProperties properties, LongSupplier clock) {
+        this.windowSize = properties.getWindowSize();
+        this.minimumCalls = Math.min(properties.getMinimumCalls(), windowSize);
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.openNanos = properties.getOpenDuration().toNanos();
+        this.halfOpenCalls = properties.getHalfOpenCalls();
+        this.clock = clock;
+        this.failures = new boolean[windowSize];
+    }
+
+    boolean tryAcquire() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            halfOpen();
+        }
+
+        while (true) {
+            int permits = halfOpenPermits.get();
+            if (permits <= 0) {
+                return false;
+            }
+            if (halfOpenPermits.compareAndSet(permits, permits - 1)) {
+                return true;
+            }
+        }
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && recordedFailures * 100 >= failureRateThreshold * recordedCalls) {
+                open();
+            }
+        }
+    }
+
+    void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits.incrementAndGet();
+        }
+    }
+
+    State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recordedCalls == windowSize) {
+            if (failures[position]) {
+                recordedFailures--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        failures[position] = failure;
+        if (failure) {
+            recordedFailures++;
+        }
+        position = (position + 1) % windowSize;
+    }
+
+    private synchronized void halfOpen() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openNanos) {
+            halfOpenSuccesses = 0;
+            halfOpenPermits.set(halfOpenCalls);
+            state = State.HALF_OPEN;
+        }
+    }
+
+    private void open() {
+        openedAt = clock.getAsLong();
+        halfOpenPermits.set(0);
+        state = State.OPEN;
+    }
+
+    private void close() {
+        position = 0;
+        recordedCalls = 0;
+        recordedFailures = 0;
+        state = State.CLOSED;
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.circuit-breaker")
+public class CircuitBreakerProperties {
+    private boolean enabled = true;
+    private int windowSize = 50;
+    private int minimumCalls = 20;
+    private int failureRateThreshold = 50;
+    private Duration openDuration = Duration.ofSeconds(10);
+    private int halfOpenCalls = 5;
+}
@@ -0,0 +1,113 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.exception.ServerOverloadedException;
+import ru.practicum.shareit.exception.ServerUnavailableException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@EnableConfigurationProperties(CircuitBreakerProperties.class)
+public class CircuitBreakers {
+    private final CircuitBreakerProperties properties;
+    private final Map<Bulkhead, CircuitBreaker> breakers = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Counter> successes = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Counter> failures = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Counter> rejections = new EnumMap<>(Bulkhead.class);
+
+    @Autowired
+    public CircuitBreakers(CircuitBreakerProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreakers(CircuitBreakerProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.properties = properties;
+        for (Bulkhead route : Bulkhead.values()) {
+            CircuitBreaker breaker = new CircuitBreaker(properties, clock);
+            Tags tags = Tags.of("route", route.name().toLowerCase());
+            breakers.put(route, breaker);
+            successes.put(route, calls(meterRegistry, tags, "success"));
+            failures.put(route, calls(meterRegistry, tags, "failure"));
+            rejections.put(route, calls(meterRegistry, tags, "rejected"));
+            Gauge.builder("shareit.gateway.circuit-breaker.state", breaker, b -> b.getState().ordinal())
+                    .tags(tags)
+                    .description("0 - closed, 1 - open, 2 - half-open")
+                    .register(meterRegistry);
+        }
+    }
+
+    public CompletableFuture<ResponseEntity<Object>> execute(Bulkhead route,
+                                                             Supplier<CompletableFuture<ResponseEntity<Object>>> request) {
+        if (!properties.isEnabled()) {
+            return request.get();
+        }
+
+        CircuitBreaker breaker = breakers.get(route);
+        if (!breaker.tryAcquire()) {
+            rejections.get(route).increment();
+            return CompletableFuture.failedFuture(
+                    new ServerUnavailableException("Сервер недоступен, повторите запрос позже"));
+        }
+
+        CompletableFuture<ResponseEntity<Object>> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            onFailure(route, breaker);
+            throw e;
+        }
+        return response.whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            if (cause instanceof ServerOverloadedException || cause instanceof CancellationException) {
+                breaker.onIgnored();
+            } else if (cause != null || isServerFailure(result)) {
+                onFailure(route, breaker);
+            } else {
+                successes.get(route).increment();
+                breaker.onSuccess();
+            }
+        });
+    }
+
+    CircuitBreaker.State state(Bulkhead route) {
+        return breakers.get(route).getState();
+    }
+
+    private void onFailure(Bulkhead route, CircuitBreaker breaker) {
+        failures.get(route).increment();
+        CircuitBreaker.State before = breaker.getState();
+        breaker.onFailure();
+        if (before != CircuitBreaker.State.OPEN && breaker.getState() == CircuitBreaker.State.OPEN) {
+            log.warn("Circuit breaker for {} opened", route);
+        }
+    }
+
+    private static boolean isServerFailure(ResponseEntity<Object> response) {
+        int status = response.getStatusCodeValue();
+        return status == 502 || status == 503 || status == 504;
+    }
+
+    private static Counter calls(MeterRegistry meterRegistry, Tags tags, String result) {
+        return Counter.builder("shareit.gateway.circuit-breaker.calls")
+                .tags(tags)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
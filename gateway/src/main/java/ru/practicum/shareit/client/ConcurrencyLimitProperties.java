@@ -0,0 +1,18 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private int initialLimit = 10;
+    private int minLimit = 2;
+    private int maxLimit = 20;
+    private double rttTolerance = 1.5;
+    private double smoothing = 0.2;
+    private int longWindow = 600;
+}
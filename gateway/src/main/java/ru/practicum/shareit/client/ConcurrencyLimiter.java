@@ -0,0 +1,80 @@
+package ru.practicum.shareit.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ConcurrencyLimiter {
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_DECREASE = 0.5;
+    private static final double LONG_RTT_DRIFT = 2.0;
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double longRttWeight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRtt;
+
+    ConcurrencyLimiter(ConcurrencyLimitProperties properties, int connections, int instances) {
+        this.maxLimit = Math.max(1, Math.min(properties.getMaxLimit(), connections)) * Math.max(1, instances);
+        this.minLimit = Math.min(properties.getMinLimit(), maxLimit);
+        this.rttTolerance = properties.getRttTolerance();
+        this.smoothing = properties.getSmoothing();
+        this.longRttWeight = 2.0 / (properties.getLongWindow() + 1);
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, properties.getInitialLimit()));
+        this.limit = (int) estimatedLimit;
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(long rttNanos, boolean dropped) {
+        int inFlightBeforeRelease = inFlight.getAndDecrement();
+        update(Math.max(1, rttNanos), inFlightBeforeRelease, dropped);
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rtt, int inFlightBeforeRelease, boolean dropped) {
+        if (dropped) {
+            setLimit(estimatedLimit * DROP_DECREASE);
+            return;
+        }
+
+        longRtt = longRtt == 0 ? rtt : longRtt * (1 - longRttWeight) + rtt * longRttWeight;
+        if (longRtt / rtt > LONG_RTT_DRIFT) {
+            longRtt *= LONG_RTT_DECAY;
+        }
+
+        if (inFlightBeforeRelease < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRtt / rtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        setLimit(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private void setLimit(double newLimit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-server.load-balancer")
+public class LoadBalancerProperties {
+    private String healthCheckPath = "/actuator/health";
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+    private int consecutiveFailures = 5;
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+    private int maxEjectionPercent = 50;
+}
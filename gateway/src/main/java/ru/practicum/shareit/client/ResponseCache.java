@@ -0,0 +1,141 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCache {
+    private final ResponseCacheProperties properties;
+    private final Cache<String, Entry> entries;
+    private final Cache<String, Long> invalidations;
+    private final AtomicLong generations = new AtomicLong();
+    private final AtomicLong forgottenInvalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter revalidations;
+    private final Counter misses;
+
+    public ResponseCache(ResponseCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .executor(Runnable::run)
+                .build();
+        this.invalidations = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .executor(Runnable::run)
+                .<String, Long>removalListener((resource, generation, cause) -> {
+                    if (cause == RemovalCause.SIZE && generation != null) {
+                        forgottenInvalidations.accumulateAndGet(generation, Math::max);
+                    }
+                })
+                .build();
+        this.hits = cacheRequests(meterRegistry, "hit");
+        this.revalidations = cacheRequests(meterRegistry, "revalidated");
+        this.misses = cacheRequests(meterRegistry, "miss");
+        Gauge.builder("shareit.gateway.cache.size", this, ResponseCache::size).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public long generation() {
+        return generations.get();
+    }
+
+    @Nullable
+    public Entry find(String key) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null || entry.generation >= invalidatedAt(entry.resource)) {
+            return entry;
+        }
+        entries.asMap().remove(key, entry);
+        return null;
+    }
+
+    public ResponseEntity<Object> hit(Entry entry) {
+        hits.increment();
+        return entry.response;
+    }
+
+    public ResponseEntity<Object> revalidated(Entry entry) {
+        revalidations.increment();
+        entry.validatedAt = System.nanoTime();
+        return entry.response;
+    }
+
+    public ResponseEntity<Object> store(String key, String resource, long generation, ResponseEntity<Object> response) {
+        misses.increment();
+        String etag = response.getHeaders().getETag();
+        if (response.getStatusCode() != HttpStatus.OK || etag == null || !fits(response.getBody())
+                || generation < invalidatedAt(resource)) {
+            entries.invalidate(key);
+            return response;
+        }
+
+        Entry entry = new Entry(etag, resource, generation, ResponseEntity.status(response.getStatusCode())
+                .headers(HttpHeaders.readOnlyHttpHeaders(response.getHeaders()))
+                .body(response.getBody()));
+        entries.put(key, entry);
+        return response;
+    }
+
+    public void invalidate(String resource) {
+        invalidations.put(resource, generations.incrementAndGet());
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    private long invalidatedAt(String resource) {
+        Long generation = invalidations.getIfPresent(resource);
+        return Math.max(generation != null ? generation : 0, forgottenInvalidations.get());
+    }
+
+    private boolean fits(@Nullable Object body) {
+        return body instanceof byte[] && ((byte[]) body).length <= properties.getMaxBodySize().toBytes();
+    }
+
+    private static Counter cacheRequests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("shareit.gateway.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public class Entry {
+        private final String etag;
+        private final String resource;
+        private final long generation;
+        private final ResponseEntity<Object> response;
+        private volatile long validatedAt = System.nanoTime();
+
+        private Entry(String etag, String resource, long generation, ResponseEntity<Object> response) {
+            this.etag = etag;
+            this.resource = resource;
+            this.generation = generation;
+            this.response = response;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public boolean isFresh() {
+            return System.nanoTime() - validatedAt < properties.getFreshFor().toNanos();
+        }
+    }
+}
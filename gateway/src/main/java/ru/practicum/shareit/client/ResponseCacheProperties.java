@@ -0,0 +1,18 @@
+package ru.practicum.shareit.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.response-cache")
+public class ResponseCacheProperties {
+    private boolean enabled = true;
+    private int maxEntries = 10000;
+    private DataSize maxBodySize = DataSize.ofKilobytes(256);
+    private Duration freshFor = Duration.ZERO;
+}
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ServerInstance {
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+
+    private final URI uri;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private volatile boolean healthy = true;
+    private volatile boolean ejected;
+    private volatile long ejectedUntil;
+    private int consecutiveFailures;
+    private int ejections;
+
+    ServerInstance(String url) {
+        this.uri = URI.create(url.trim());
+    }
+
+    URI getUri() {
+        return uri;
+    }
+
+    URI resolve(URI requestUri) {
+        String basePath = uri.getRawPath() == null ? "" : uri.getRawPath().replaceAll("/+$", "");
+        return UriComponentsBuilder.fromUri(requestUri)
+                .scheme(uri.getScheme())
+                .host(uri.getHost())
+                .port(uri.getPort())
+                .replacePath(basePath + requestUri.getRawPath())
+                .build(true)
+                .toUri();
+    }
+
+    int getOutstanding() {
+        return outstanding.get();
+    }
+
+    void acquire() {
+        outstanding.incrementAndGet();
+    }
+
+    void release() {
+        outstanding.decrementAndGet();
+    }
+
+    boolean isHealthy() {
+        return healthy;
+    }
+
+    void setHealthy(boolean healthy) {
+        this.healthy = healthy;
+    }
+
+    boolean isEjected(long now) {
+        return ejected && now - ejectedUntil < 0;
+    }
+
+    boolean isAvailable(long now) {
+        return healthy && !isEjected(now);
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        ejections = 0;
+    }
+
+    synchronized int onFailure() {
+        return ++consecutiveFailures;
+    }
+
+    synchronized void eject(long now, long ejectionNanos) {
+        ejections = Math.min(ejections + 1, MAX_EJECTION_MULTIPLIER);
+        consecutiveFailures = 0;
+        ejectedUntil = now + ejectionNanos * ejections;
+        ejected = true;
+    }
+}
@@ -0,0 +1,182 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+@Slf4j
+@Component
+@EnableConfigurationProperties(LoadBalancerProperties.class)
+public class ServerLoadBalancer implements ExchangeFilterFunction {
+    public static final String BASE_URL = "http://shareit-server";
+
+    private final List<ServerInstance> instances = new ArrayList<>();
+    private final LoadBalancerProperties properties;
+    private final WebClient healthCheckClient;
+    private final LongSupplier clock;
+    private final Counter ejections;
+    private Disposable healthChecks;
+
+    @Autowired
+    public ServerLoadBalancer(@Value("${shareit-server.url}") List<String> urls,
+                              LoadBalancerProperties properties,
+                              ClientHttpConnector connector,
+                              MeterRegistry meterRegistry) {
+        this(urls, properties, connector, meterRegistry, System::nanoTime);
+    }
+
+    ServerLoadBalancer(List<String> urls,
+                       LoadBalancerProperties properties,
+                       ClientHttpConnector connector,
+                       MeterRegistry meterRegistry,
+                       LongSupplier clock) {
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("Не задан ни один адрес сервера shareit-server.url");
+        }
+        for (String url : urls) {
+            ServerInstance instance = new ServerInstance(url);
+            Tags tags = Tags.of("instance", instance.getUri().toString());
+            instances.add(instance);
+            Gauge.builder("shareit.gateway.load-balancer.outstanding", instance, ServerInstance::getOutstanding)
+                    .tags(tags)
+                    .register(meterRegistry);
+            Gauge.builder("shareit.gateway.load-balancer.available", instance,
+                            i -> i.isAvailable(clock.getAsLong()) ? 1 : 0)
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+        this.properties = properties;
+        this.healthCheckClient = WebClient.builder().clientConnector(connector).build();
+        this.clock = clock;
+        this.ejections = Counter.builder("shareit.gateway.load-balancer.ejections").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void startHealthChecks() {
+        if (instances.size() > 1) {
+            healthChecks = Flux.interval(properties.getHealthCheckInterval())
+                    .onBackpressureDrop()
+                    .concatMap(tick -> checkHealth())
+                    .subscribe();
+        }
+    }
+
+    @PreDestroy
+    public void stopHealthChecks() {
+        if (healthChecks != null) {
+            healthChecks.dispose();
+        }
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            ServerInstance instance = choose();
+            instance.acquire();
+            ClientRequest routed = ClientRequest.from(request)
+                    .url(instance.resolve(request.url()))
+                    .build();
+            return next.exchange(routed)
+                    .doOnNext(response -> {
+                        if (isServerFailure(response.rawStatusCode())) {
+                            onFailure(instance);
+                        } else {
+                            instance.onSuccess();
+                        }
+                    })
+                    .doOnError(error -> onFailure(instance))
+                    .doFinally(signal -> instance.release());
+        });
+    }
+
+    Mono<Void> checkHealth() {
+        return Flux.fromIterable(instances)
+                .flatMap(instance -> healthCheckClient.get()
+                        .uri(instance.resolve(URI.create(properties.getHealthCheckPath())))
+                        .exchangeToMono(response -> Mono.just(response.statusCode().is2xxSuccessful()))
+                        .timeout(properties.getHealthCheckTimeout())
+                        .onErrorReturn(false)
+                        .doOnNext(healthy -> {
+                            if (instance.isHealthy() != healthy) {
+                                log.warn("Server {} is {}", instance.getUri(), healthy ? "healthy again" : "unhealthy");
+                            }
+                            instance.setHealthy(healthy);
+                        }))
+                .then();
+    }
+
+    ServerInstance choose() {
+        long now = clock.getAsLong();
+        List<ServerInstance> available = new ArrayList<>(instances.size());
+        for (ServerInstance instance : instances) {
+            if (instance.isAvailable(now)) {
+                available.add(instance);
+            }
+        }
+        if (available.isEmpty()) {
+            available = instances;
+        }
+        if (available.size() == 1) {
+            return available.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(available.size());
+        int second = random.nextInt(available.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServerInstance a = available.get(first);
+        ServerInstance b = available.get(second);
+        return a.getOutstanding() <= b.getOutstanding() ? a : b;
+    }
+
+    List<ServerInstance> instances() {
+        return instances;
+    }
+
+    private void onFailure(ServerInstance instance) {
+        if (instance.onFailure() < properties.getConsecutiveFailures() || instances.size() < 2) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        synchronized (instances) {
+            long ejected = instances.stream().filter(i -> i.isEjected(now)).count();
+            boolean allowed = (ejected + 1) * 100 <= (long) properties.getMaxEjectionPercent() * instances.size();
+            if (allowed && !instance.isEjected(now)) {
+                instance.eject(now, properties.getEjectionDuration().toNanos());
+                ejections.increment();
+                log.warn("Server {} ejected after {} consecutive failures",
+                        instance.getUri(), properties.getConsecutiveFailures());
+            }
+        }
+    }
+
+    private static boolean isServerFailure(int status) {
+        return status == 502 || status == 503 || status == 504;
+    }
+}
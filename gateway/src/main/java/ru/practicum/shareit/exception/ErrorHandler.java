@@ -7,6 +7,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 
 import javax.validation.ConstraintViolationException;
 import java.util.HashMap;
@@ -54,6 +55,30 @@ public class ErrorHandler {
         return new ResponseEntity<>(map, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleServerOverloaded(ServerOverloadedException e) {
+        log.warn(String.format("Ошибка %s: %s", e.getClass().getSimpleName(), e.getMessage()));
+        Map<String, String> map = new HashMap<>();
+        map.put("error", e.getMessage());
+        return new ResponseEntity<>(map, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleServerUnavailable(ServerUnavailableException e) {
+        log.warn(String.format("Ошибка %s: %s", e.getClass().getSimpleName(), e.getMessage()));
+        Map<String, String> map = new HashMap<>();
+        map.put("error", e.getMessage());
+        return new ResponseEntity<>(map, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleWebClientRequest(WebClientRequestException e) {
+        log.error(String.format("Ошибка %s: %s", e.getClass().getSimpleName(), e.getMessage()));
+        Map<String, String> map = new HashMap<>();
+        map.put("error", "Сервер не отвечает");
+        return new ResponseEntity<>(map, HttpStatus.BAD_GATEWAY);
+    }
+
     @ExceptionHandler
     public ResponseEntity<Map<String, String>> handleThrowable(Throwable e) {
         log.error(String.format("Ошибка %s: %s", e.getClass().getSimpleName(), e.getMessage()));
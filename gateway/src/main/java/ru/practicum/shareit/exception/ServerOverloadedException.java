@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exception;
+
+public class ServerOverloadedException extends RuntimeException {
+    public ServerOverloadedException(String message) {
+        super(message);
+    }
+}
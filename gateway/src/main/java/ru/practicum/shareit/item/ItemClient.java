@@ -1,64 +1,87 @@
 package ru.practicum.shareit.item;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.Bulkhead;
+import ru.practicum.shareit.client.Bulkheads;
+import ru.practicum.shareit.client.CircuitBreakers;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerLoadBalancer;
 import ru.practicum.shareit.item.dto.CommentRequestDto;
 import ru.practicum.shareit.item.dto.ItemRequestDto;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
+    private static final String SEARCH_PATH = "/search";
 
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(ClientHttpConnector connector,
+                      ServerLoadBalancer loadBalancer,
+                      ResponseCache responseCache,
+                      Bulkheads bulkheads,
+                      CircuitBreakers circuitBreakers,
+                      WebClient.Builder builder) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .uriBuilderFactory(new DefaultUriBuilderFactory(ServerLoadBalancer.BASE_URL + API_PREFIX))
+                        .clientConnector(connector)
+                        .filter(loadBalancer)
+                        .build(),
+                responseCache,
+                bulkheads,
+                circuitBreakers,
+                Bulkhead.ITEMS
         );
     }
 
-    public ResponseEntity<Object> getItems(long userId, int from, int size) {
-        Map<String, Object> parameters = Map.of(
+    public CompletableFuture<ResponseEntity<Object>> getItems(long userId, int from, int size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "from", from,
                 "size", size
-        );
-        return get("?from={from}&size={size}", userId, parameters);
+        ));
+        return get(withCursor("?from={from}&size={size}", parameters, cursor), userId, parameters);
     }
 
-    public ResponseEntity<Object> getItem(long userId, long itemId) {
-        return get("/" + itemId, userId);
+    public CompletableFuture<ResponseEntity<Object>> getItem(long userId, long itemId) {
+        return getCached("/" + itemId, userId, true);
     }
 
-    public ResponseEntity<Object> createItem(long userId, ItemRequestDto itemRequestDto) {
-        return post("", userId, itemRequestDto);
+    public CompletableFuture<ResponseEntity<Object>> createItem(long userId, ItemRequestDto itemRequestDto) {
+        return invalidateOnSuccess(post("", userId, itemRequestDto), SEARCH_PATH);
     }
 
-    public ResponseEntity<Object> updateItem(long userId, long itemId, ItemRequestDto itemRequestDto) {
-        return patch("/" + itemId, userId, itemRequestDto);
+    public CompletableFuture<ResponseEntity<Object>> updateItem(long userId, long itemId, ItemRequestDto itemRequestDto) {
+        return invalidateOnSuccess(patch("/" + itemId, userId, itemRequestDto), "/" + itemId, SEARCH_PATH);
     }
 
-    public void deleteItem(long itemId) {
-        delete("/" + itemId);
+    public CompletableFuture<Void> deleteItem(long itemId) {
+        return invalidateOnSuccess(delete("/" + itemId), "/" + itemId, SEARCH_PATH).thenApply(response -> null);
     }
 
-    public ResponseEntity<Object> searchItems(long userId, int from, int size, String text) {
+    public CompletableFuture<ResponseEntity<Object>> searchItems(long userId, int from, int size, String text) {
         Map<String, Object> parameters = Map.of(
                 "text", text,
                 "from", from,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+        return getCached(SEARCH_PATH + "?text={text}&from={from}&size={size}", userId, parameters, false);
+    }
+
+    @Override
+    protected Bulkhead bulkheadFor(String path) {
+        return path.startsWith(SEARCH_PATH) ? Bulkhead.SEARCH : Bulkhead.ITEMS;
     }
 
-    public ResponseEntity<Object> addComment(long userId, long itemId, CommentRequestDto commentRequestDto) {
-        return post("/" + itemId + "/comment", userId, commentRequestDto);
+    public CompletableFuture<ResponseEntity<Object>> addComment(long userId, long itemId, CommentRequestDto commentRequestDto) {
+        return invalidateOnSuccess(post("/" + itemId + "/comment", userId, commentRequestDto), "/" + itemId,
+                SEARCH_PATH);
     }
 }
@@ -13,6 +13,7 @@ import ru.practicum.shareit.validation.OnUpdate;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Validated
@@ -27,54 +28,55 @@ public class ItemController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> getItems(@RequestHeader("X-Sharer-User-Id") long userId,
-                                           @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                           @RequestParam(defaultValue = "10") @Positive int size) {
-        log.info("Get items userId={}, from={}, size={}", userId, from, size);
-        return itemClient.getItems(userId, from, size);
+    public CompletableFuture<ResponseEntity<Object>> getItems(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                              @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                                              @RequestParam(defaultValue = "10") @Positive int size,
+                                                              @RequestParam(required = false) String cursor) {
+        log.info("Get items userId={}, from={}, size={}, cursor={}", userId, from, size, cursor);
+        return itemClient.getItems(userId, from, size, cursor);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> getItemById(@RequestHeader("X-Sharer-User-Id") long userId,
-                                              @PathVariable long itemId) {
+    public CompletableFuture<ResponseEntity<Object>> getItemById(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                 @PathVariable long itemId) {
         log.info("Get item itemId={}, userId={}", itemId, userId);
         return itemClient.getItem(userId, itemId);
     }
 
     @PostMapping
-    public ResponseEntity<Object> createItem(@RequestHeader("X-Sharer-User-Id") long userId,
-                                             @RequestBody @Validated(OnCreate.class) ItemRequestDto itemRequestDto) {
+    public CompletableFuture<ResponseEntity<Object>> createItem(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                @RequestBody @Validated(OnCreate.class) ItemRequestDto itemRequestDto) {
         log.info("Creating item {}, userId={}", itemRequestDto, userId);
         return itemClient.createItem(userId, itemRequestDto);
     }
 
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> updateItem(@RequestHeader("X-Sharer-User-Id") long userId,
-                                             @PathVariable long itemId,
-                                             @RequestBody @Validated(OnUpdate.class) ItemRequestDto itemRequestDto) {
+    public CompletableFuture<ResponseEntity<Object>> updateItem(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                @PathVariable long itemId,
+                                                                @RequestBody @Validated(OnUpdate.class) ItemRequestDto itemRequestDto) {
         log.info("Updating item itemId={}, userId={}, item {}", itemId, userId, itemRequestDto);
         return itemClient.updateItem(userId, itemId, itemRequestDto);
     }
 
     @DeleteMapping("/{itemId}")
-    public void deleteItem(@PathVariable long itemId) {
+    public CompletableFuture<Void> deleteItem(@PathVariable long itemId) {
         log.info("Deleting item itemId={}", itemId);
-        itemClient.deleteItem(itemId);
+        return itemClient.deleteItem(itemId);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItems(@RequestHeader("X-Sharer-User-Id") long userId,
-                                              @RequestParam String text,
-                                              @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                              @RequestParam(defaultValue = "10") @Positive int size) {
+    public CompletableFuture<ResponseEntity<Object>> searchItems(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                 @RequestParam String text,
+                                                                 @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                                                 @RequestParam(defaultValue = "10") @Positive int size) {
         log.info("Searching items text={}, userId={}, from={}, size={}", text, userId, from, size);
         return itemClient.searchItems(userId, from, size, text);
     }
 
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader("X-Sharer-User-Id") long userId,
-                                             @PathVariable long itemId,
-                                             @RequestBody @Valid CommentRequestDto commentDto) {
+    public CompletableFuture<ResponseEntity<Object>> addComment(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                @PathVariable long itemId,
+                                                                @RequestBody @Valid CommentRequestDto commentDto) {
         log.info("Creating comment itemId={}, userId={}, comment {}", itemId, userId, commentDto);
         return itemClient.addComment(userId, itemId, commentDto);
     }
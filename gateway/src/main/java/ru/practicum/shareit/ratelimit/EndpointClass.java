@@ -0,0 +1,32 @@
+package ru.practicum.shareit.ratelimit;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Set;
+
+enum EndpointClass {
+    SEARCH,
+    LISTING,
+    WRITES;
+
+    private static final Set<String> LISTING_PATHS = Set.of(
+            "/items", "/bookings", "/bookings/owner", "/requests", "/requests/all", "/users"
+    );
+
+    static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return "OPTIONS".equals(request.getMethod()) ? null : WRITES;
+        }
+        if ("/items/search".equals(path)) {
+            return SEARCH;
+        }
+        if (LISTING_PATHS.contains(path)) {
+            return LISTING;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,106 @@
+package ru.practicum.shareit.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final byte[] REJECTION_BODY =
+            "{\"error\":\"Слишком много запросов, повторите позже\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimitProperties properties;
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<EndpointClass, TokenBucket> overflowBuckets = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejections = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        long refillNanos = 0;
+        long now = System.nanoTime();
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            RateLimitProperties.Limit limit = properties.limitFor(endpointClass);
+            refillNanos = Math.max(refillNanos,
+                    (long) Math.ceil(limit.getCapacity() / limit.getRefillPerSecond() * TimeUnit.SECONDS.toNanos(1)));
+            overflowBuckets.put(endpointClass, new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+            rejections.put(endpointClass, Counter.builder("shareit.gateway.rate-limit.rejected")
+                    .tag("endpoint", endpointClass.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(refillNanos, TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || EndpointClass.of(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        long now = System.nanoTime();
+        TokenBucket bucket = bucketFor(clientKey(request) + ":" + endpointClass, endpointClass, now);
+
+        if (bucket.tryAcquire(now)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejections.get(endpointClass).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilNextToken(now) - 1) + 1);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(REJECTION_BODY.length);
+        response.getOutputStream().write(REJECTION_BODY);
+    }
+
+    long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private TokenBucket bucketFor(String key, EndpointClass endpointClass, long now) {
+        TokenBucket bucket = buckets.getIfPresent(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        if (buckets.estimatedSize() >= properties.getMaxBuckets()) {
+            return overflowBuckets.get(endpointClass);
+        }
+        RateLimitProperties.Limit limit = properties.limitFor(endpointClass);
+        return buckets.get(key, k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        String userId = request.getHeader(USER_HEADER);
+        return userId != null ? "user:" + userId.trim() : "address:" + request.getRemoteAddr();
+    }
+}
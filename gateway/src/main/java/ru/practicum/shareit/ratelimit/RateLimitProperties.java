@@ -0,0 +1,42 @@
+package ru.practicum.shareit.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit-gateway.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int maxBuckets = 100000;
+    private Limit search = new Limit(20, 5);
+    private Limit listing = new Limit(40, 10);
+    private Limit writes = new Limit(20, 5);
+
+    Limit limitFor(EndpointClass endpointClass) {
+        switch (endpointClass) {
+            case SEARCH:
+                return search;
+            case LISTING:
+                return listing;
+            default:
+                return writes;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity;
+        private double refillPerSecond;
+
+        public Limit() {
+        }
+
+        Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+class TokenBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = current.tokensAt(nowNanos);
+            if (tokens < 1) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, Math.max(nowNanos, current.updatedAt)))) {
+                return true;
+            }
+        }
+    }
+
+    long nanosUntilNextToken(long nowNanos) {
+        double missing = 1 - state.get().tokensAt(nowNanos);
+        return missing <= 0 ? 0 : (long) Math.ceil(missing / tokensPerNano);
+    }
+
+    private final class State {
+        private final double tokens;
+        private final long updatedAt;
+
+        State(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+
+        double tokensAt(long nowNanos) {
+            long elapsed = Math.max(0, nowNanos - updatedAt);
+            return Math.min(capacity, tokens + elapsed * tokensPerNano);
+        }
+    }
+}
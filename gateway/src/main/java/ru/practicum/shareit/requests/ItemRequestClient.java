@@ -1,46 +1,62 @@
 package ru.practicum.shareit.requests;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.Bulkhead;
+import ru.practicum.shareit.client.Bulkheads;
+import ru.practicum.shareit.client.CircuitBreakers;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerLoadBalancer;
 import ru.practicum.shareit.requests.dto.ItemReqRequestDto;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(ClientHttpConnector connector,
+                             ServerLoadBalancer loadBalancer,
+                             ResponseCache responseCache,
+                             Bulkheads bulkheads,
+                             CircuitBreakers circuitBreakers,
+                             WebClient.Builder builder) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .uriBuilderFactory(new DefaultUriBuilderFactory(ServerLoadBalancer.BASE_URL + API_PREFIX))
+                        .clientConnector(connector)
+                        .filter(loadBalancer)
+                        .build(),
+                responseCache,
+                bulkheads,
+                circuitBreakers,
+                Bulkhead.REQUESTS
         );
     }
 
-    public ResponseEntity<Object> getItemRequest(long userId, long requestId) {
-        return get("/" + requestId, userId);
+    public CompletableFuture<ResponseEntity<Object>> getItemRequest(long userId, long requestId) {
+        return getCached("/" + requestId, userId, true);
     }
 
-    public ResponseEntity<Object> getItemRequests(long userId) {
+    public CompletableFuture<ResponseEntity<Object>> getItemRequests(long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getItemRequests(long userId, int from, int size) {
-        Map<String, Object> parameters = Map.of(
+    public CompletableFuture<ResponseEntity<Object>> getItemRequests(long userId, int from, int size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "from", from,
                 "size", size
-        );
-        return get("/all?from={from}&size={size}", userId, parameters);
+        ));
+        return get(withCursor("/all?from={from}&size={size}", parameters, cursor), userId, parameters);
     }
 
-    public ResponseEntity<Object> createItemRequest(long userId, ItemReqRequestDto itemRequestDto) {
+    public CompletableFuture<ResponseEntity<Object>> createItemRequest(long userId, ItemReqRequestDto itemRequestDto) {
         return post("", userId, itemRequestDto);
     }
 }
@@ -10,6 +10,7 @@ import ru.practicum.shareit.requests.dto.ItemReqRequestDto;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Validated
@@ -24,29 +25,30 @@ public class ItemRequestController {
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getItemRequest(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                 @PathVariable long requestId) {
+    public CompletableFuture<ResponseEntity<Object>> getItemRequest(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                    @PathVariable long requestId) {
         log.info("Get itemRequest requestId={}, userId={}", requestId, userId);
         return itemRequestClient.getItemRequest(userId, requestId);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getItemRequests(@RequestHeader("X-Sharer-User-Id") long userId) {
+    public CompletableFuture<ResponseEntity<Object>> getItemRequests(@RequestHeader("X-Sharer-User-Id") long userId) {
         log.info("Get itemRequests userId={}", userId);
         return itemRequestClient.getItemRequests(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getItemRequests(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                  @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                                  @RequestParam(defaultValue = "10") @Positive int size) {
-        log.info("Get itemRequests userId={}, from={}, size={}", userId, from, size);
-        return itemRequestClient.getItemRequests(userId, from, size);
+    public CompletableFuture<ResponseEntity<Object>> getItemRequests(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                     @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                                                     @RequestParam(defaultValue = "10") @Positive int size,
+                                                                     @RequestParam(required = false) String cursor) {
+        log.info("Get itemRequests userId={}, from={}, size={}, cursor={}", userId, from, size, cursor);
+        return itemRequestClient.getItemRequests(userId, from, size, cursor);
     }
 
     @PostMapping
-    public ResponseEntity<Object> createItemRequest(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                    @RequestBody @Valid ItemReqRequestDto itemRequestDto) {
+    public CompletableFuture<ResponseEntity<Object>> createItemRequest(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                       @RequestBody @Valid ItemReqRequestDto itemRequestDto) {
         log.info("Creating itemRequest {}, userId={}", itemRequestDto, userId);
         return itemRequestClient.createItemRequest(userId, itemRequestDto);
     }
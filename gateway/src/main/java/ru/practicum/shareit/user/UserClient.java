@@ -1,44 +1,60 @@
 package ru.practicum.shareit.user;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.Bulkhead;
+import ru.practicum.shareit.client.Bulkheads;
+import ru.practicum.shareit.client.CircuitBreakers;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ServerLoadBalancer;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(ClientHttpConnector connector,
+                      ServerLoadBalancer loadBalancer,
+                      ResponseCache responseCache,
+                      Bulkheads bulkheads,
+                      CircuitBreakers circuitBreakers,
+                      WebClient.Builder builder) {
         super(
                 builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .uriBuilderFactory(new DefaultUriBuilderFactory(ServerLoadBalancer.BASE_URL + API_PREFIX))
+                        .clientConnector(connector)
+                        .filter(loadBalancer)
+                        .build(),
+                responseCache,
+                bulkheads,
+                circuitBreakers,
+                Bulkhead.USERS
         );
     }
 
-    public ResponseEntity<Object> getUsers() {
+    public CompletableFuture<ResponseEntity<Object>> getUsers() {
         return get("");
     }
 
-    public ResponseEntity<Object> getUser(long userId) {
-        return get("/" + userId);
+    public CompletableFuture<ResponseEntity<Object>> getUser(long userId) {
+        return getCached("/" + userId, null, false);
     }
 
-    public ResponseEntity<Object> createUser(UserDto userDto) {
+    public CompletableFuture<ResponseEntity<Object>> createUser(UserDto userDto) {
         return post("", userDto);
     }
 
-    public ResponseEntity<Object> updateUser(long userId, UserDto userDto) {
-        return patch("/" + userId, userDto);
+    public CompletableFuture<ResponseEntity<Object>> updateUser(long userId, UserDto userDto) {
+        return invalidateOnSuccess(patch("/" + userId, userDto), "/" + userId);
     }
 
-    public void deleteUser(long userId) {
-        delete("/" + userId);
+    public CompletableFuture<Void> deleteUser(long userId) {
+        return invalidateOnSuccess(delete("/" + userId), "/" + userId).thenApply(response -> null);
     }
 }
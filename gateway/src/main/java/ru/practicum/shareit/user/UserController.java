@@ -9,6 +9,8 @@ import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.validation.OnCreate;
 import ru.practicum.shareit.validation.OnUpdate;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Validated
 @RestController
@@ -22,33 +24,33 @@ public class UserController {
     }
 
     @GetMapping
-    public ResponseEntity<Object> getUsers() {
+    public CompletableFuture<ResponseEntity<Object>> getUsers() {
         log.info("Get users");
         return userClient.getUsers();
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> getUser(@PathVariable long userId) {
+    public CompletableFuture<ResponseEntity<Object>> getUser(@PathVariable long userId) {
         log.info("Get user userId={}", userId);
         return userClient.getUser(userId);
     }
 
     @PostMapping
-    public ResponseEntity<Object> createUser(@RequestBody @Validated(OnCreate.class) UserDto userDto) {
+    public CompletableFuture<ResponseEntity<Object>> createUser(@RequestBody @Validated(OnCreate.class) UserDto userDto) {
         log.info("Creating user {}", userDto);
         return userClient.createUser(userDto);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> updateUser(@PathVariable long userId,
-                                             @RequestBody @Validated(OnUpdate.class) UserDto userDto) {
+    public CompletableFuture<ResponseEntity<Object>> updateUser(@PathVariable long userId,
+                                                                @RequestBody @Validated(OnUpdate.class) UserDto userDto) {
         log.info("Updating user userId={}, user {}", userId, userDto);
         return userClient.updateUser(userId, userDto);
     }
 
     @DeleteMapping("/{userId}")
-    public void deleteUser(@PathVariable long userId) {
+    public CompletableFuture<Void> deleteUser(@PathVariable long userId) {
         log.info("Deleting user userId={}", userId);
-        userClient.deleteUser(userId);
+        return userClient.deleteUser(userId);
     }
 }
@@ -1,16 +1,27 @@
 package ru.practicum.shareit.booking;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import ru.practicum.shareit.GatewayApplication;
+import ru.practicum.shareit.booking.dto.BookingState;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest(classes = GatewayApplication.class)
@@ -19,6 +30,9 @@ public class BookingControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private BookingClient bookingClient;
+
     @Test
     void getBookingsZeroSizeTest() throws Exception {
         mockMvc.perform(MockMvcRequestBuilders.get("/bookings")
@@ -39,4 +53,23 @@ public class BookingControllerTest {
                 .andExpect(status().isInternalServerError())
                 .andExpect(jsonPath("$.error", is("Unknown state: OLOLO")));
     }
+
+    @Test
+    void getBookingsWithCursorTest() throws Exception {
+        Mockito
+                .when(bookingClient.getBookings(1L, BookingState.ALL, 0, 10, "cursor"))
+                .thenReturn(CompletableFuture.completedFuture(
+                        ResponseEntity.ok().header("X-Next-Cursor", "next").body(List.of())));
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/bookings")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 1)
+                        .param("cursor", "cursor"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"));
+    }
 }
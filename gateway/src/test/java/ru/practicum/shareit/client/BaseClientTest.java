@@ -0,0 +1,164 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+
+public class BaseClientTest {
+    private static final String ITEM_JSON = "{\"id\":1,\"name\":\"Дрель\",\"comments\":[]}";
+
+    private ShareitServerStub server;
+    private TestClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = new ShareitServerStub();
+        client = new TestClient(WebClient.builder().baseUrl(server.url()).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void successfulResponseBodyIsRelayedAsBytes() throws Exception {
+        ShareitServerStub.Response stub = server.respond("/items/1", 200, ITEM_JSON);
+
+        ResponseEntity<Object> response = client.get("/items/1", 7).get(5, TimeUnit.SECONDS);
+
+        assertThat(stub.lastRequestHeader("X-sharer-user-id"), equalTo("7"));
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.OK));
+        assertThat(response.getHeaders().getContentType(), equalTo(MediaType.APPLICATION_JSON));
+        assertThat(response.getBody(), instanceOf(byte[].class));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo(ITEM_JSON));
+    }
+
+    @Test
+    void errorResponseKeepsStatusHeadersAndBody() throws Exception {
+        String error = "{\"error\":\"Вещь с id = 1 не найдена\"}";
+        server.respond("/items/1", 404, error);
+
+        ResponseEntity<Object> response = client.get("/items/1", 7).get(5, TimeUnit.SECONDS);
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.NOT_FOUND));
+        assertThat(response.getHeaders().getContentType(), equalTo(MediaType.APPLICATION_JSON));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo(error));
+    }
+
+    @Test
+    void hopByHopHeadersAreNotRelayed() throws Exception {
+        server.respond("/users/1", 200, "{}")
+                .header(HttpHeaders.ETAG, "\"1\"")
+                .header("Keep-Alive", "timeout=60");
+
+        ResponseEntity<Object> response = client.get("/users/1", 1).get(5, TimeUnit.SECONDS);
+
+        assertThat(response.getHeaders().getETag(), equalTo("\"1\""));
+        assertThat(response.getHeaders().getFirst("Keep-Alive"), nullValue());
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_LENGTH), nullValue());
+    }
+
+    @Test
+    void emptyResponseHasNoBody() throws Exception {
+        server.respond("/users/1", 200, "");
+
+        ResponseEntity<Object> response = client.delete("/users/1").get(5, TimeUnit.SECONDS);
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.OK));
+        assertThat(response.getBody(), nullValue());
+    }
+
+    @Test
+    void callerIsNotBlockedWhileServerResponds() throws Exception {
+        server.respond("/items/1", 200, ITEM_JSON).delay(500);
+
+        CompletableFuture<ResponseEntity<Object>> response = client.get("/items/1", 7);
+
+        assertThat(response.isDone(), equalTo(false));
+        assertThat(response.get(5, TimeUnit.SECONDS).getStatusCode(), equalTo(HttpStatus.OK));
+    }
+
+    @Test
+    void concurrentIdenticalGetsShareOneServerCall() throws Exception {
+        server.respond("/items/1", 200, ITEM_JSON).delay(300);
+
+        List<CompletableFuture<ResponseEntity<Object>>> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            responses.add(client.get("/items/1", 7));
+        }
+        for (CompletableFuture<ResponseEntity<Object>> response : responses) {
+            assertThat(new String((byte[]) response.get(5, TimeUnit.SECONDS).getBody(), StandardCharsets.UTF_8),
+                    equalTo(ITEM_JSON));
+        }
+
+        assertThat(server.requestCount(), equalTo(1));
+    }
+
+    @Test
+    void waiterCannotCompleteSharedGetForOthers() throws Exception {
+        server.respond("/items/1", 200, ITEM_JSON).delay(300);
+
+        CompletableFuture<ResponseEntity<Object>> first = client.get("/items/1", 7);
+        CompletableFuture<ResponseEntity<Object>> second = client.get("/items/1", 7);
+        first.cancel(true);
+        second.complete(ResponseEntity.status(HttpStatus.I_AM_A_TEAPOT).build());
+        ResponseEntity<Object> third = client.get("/items/1", 7).get(5, TimeUnit.SECONDS);
+
+        assertThat(third.getStatusCode(), equalTo(HttpStatus.OK));
+        assertThat(server.requestCount(), equalTo(1));
+    }
+
+    @Test
+    void getsOfDifferentUsersAreNotCoalesced() throws Exception {
+        server.respond("/items/1", 200, ITEM_JSON).delay(300);
+
+        CompletableFuture<ResponseEntity<Object>> first = client.get("/items/1", 7);
+        CompletableFuture<ResponseEntity<Object>> second = client.get("/items/1", 8);
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertThat(server.requestCount(), equalTo(2));
+    }
+
+    @Test
+    void completedGetIsNotReused() throws Exception {
+        server.respond("/items/1", 200, ITEM_JSON);
+
+        client.get("/items/1", 7).get(5, TimeUnit.SECONDS);
+        client.get("/items/1", 7).get(5, TimeUnit.SECONDS);
+
+        assertThat(server.requestCount(), equalTo(2));
+    }
+
+    private static class TestClient extends BaseClient {
+        TestClient(WebClient webClient) {
+            super(webClient);
+        }
+
+        @Override
+        public CompletableFuture<ResponseEntity<Object>> get(String path, long userId) {
+            return super.get(path, userId);
+        }
+
+        @Override
+        public CompletableFuture<ResponseEntity<Object>> delete(String path) {
+            return super.delete(path);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import ru.practicum.shareit.exception.ServerOverloadedException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BulkheadsTest {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private ShareitServerStub server;
+    private ConcurrencyLimitProperties properties;
+    private MeterRegistry meterRegistry;
+    private Bulkheads bulkheads;
+    private TestClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = new ShareitServerStub();
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(1);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(1);
+        meterRegistry = new SimpleMeterRegistry();
+        bulkheads = new Bulkheads(properties, new HttpClientProperties(), List.of(server.url()), meterRegistry);
+        client = new TestClient(WebClient.builder().baseUrl(server.url()).build(), bulkheads);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void overloadedBulkheadFailsFastWithoutCallingServer() throws Exception {
+        server.respond("/items/search", 200, "[]").delay(500);
+
+        CompletableFuture<ResponseEntity<Object>> slowSearch = client.get("/items/search", 1);
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client.get("/items/search", 2).get(100, TimeUnit.MILLISECONDS));
+
+        assertThat(error.getCause(), instanceOf(ServerOverloadedException.class));
+        assertThat(slowSearch.get(5, TimeUnit.SECONDS).getStatusCode(), equalTo(HttpStatus.OK));
+        assertThat(server.requestCount(), equalTo(1));
+        assertThat(meterRegistry.get("shareit.gateway.concurrency.rejected").tag("bulkhead", "search")
+                .counter().count(), equalTo(1.0));
+    }
+
+    @Test
+    void slowSearchDoesNotBlockBookings() throws Exception {
+        server.respond("/items/search", 200, "[]").delay(500);
+        server.respond("/bookings", 201, "{\"id\":1}");
+
+        CompletableFuture<ResponseEntity<Object>> slowSearch = client.get("/items/search", 1);
+        ResponseEntity<Object> booking = client.post("/bookings", 1, Map.of("itemId", 1)).get(5, TimeUnit.SECONDS);
+
+        assertThat(booking.getStatusCode(), equalTo(HttpStatus.CREATED));
+        assertThat(slowSearch.get(5, TimeUnit.SECONDS).getStatusCode(), equalTo(HttpStatus.OK));
+    }
+
+    @Test
+    void permitIsReleasedAfterFailure() throws Exception {
+        client = new TestClient(WebClient.builder().baseUrl("http://localhost:1").build(), bulkheads);
+
+        assertThrows(ExecutionException.class, () -> client.get("/bookings", 1).get(5, TimeUnit.SECONDS));
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client.get("/bookings", 1).get(5, TimeUnit.SECONDS));
+
+        assertThat(error.getCause() instanceof ServerOverloadedException, equalTo(false));
+    }
+
+    @Test
+    void limitGrowsWhileLatencyIsStable() {
+        ConcurrencyLimiter limiter = limiter(10);
+
+        for (int i = 0; i < 50; i++) {
+            saturate(limiter);
+            limiter.release(10 * MILLIS, false);
+        }
+
+        assertThat(limiter.getLimit(), greaterThan(10));
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() {
+        ConcurrencyLimiter limiter = limiter(40);
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter);
+            limiter.release(10 * MILLIS, false);
+        }
+        int stableLimit = limiter.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            saturate(limiter);
+            limiter.release(100 * MILLIS, false);
+        }
+
+        assertThat(limiter.getLimit(), lessThan(stableLimit / 2));
+    }
+
+    @Test
+    void droppedRequestHalvesLimit() {
+        ConcurrencyLimiter limiter = limiter(40);
+
+        limiter.tryAcquire();
+        limiter.release(10 * MILLIS, true);
+
+        assertThat(limiter.getLimit(), equalTo(20));
+    }
+
+    @Test
+    void bulkheadsShareConnectionPool() {
+        ConcurrencyLimitProperties limits = new ConcurrencyLimitProperties();
+        limits.setInitialLimit(50);
+        limits.setMaxLimit(50);
+        HttpClientProperties httpClientProperties = new HttpClientProperties();
+        httpClientProperties.setMaxConnectionsPerRoute(100);
+        Bulkheads pooled = new Bulkheads(limits, httpClientProperties, List.of("http://server-1:9090"),
+                new SimpleMeterRegistry());
+
+        assertThat(totalLimit(pooled), lessThanOrEqualTo(100));
+    }
+
+    @Test
+    void bulkheadsScaleWithServerInstances() {
+        ConcurrencyLimitProperties limits = new ConcurrencyLimitProperties();
+        limits.setInitialLimit(50);
+        limits.setMaxLimit(50);
+        HttpClientProperties httpClientProperties = new HttpClientProperties();
+        httpClientProperties.setMaxConnectionsPerRoute(100);
+        Bulkheads pooled = new Bulkheads(limits, httpClientProperties,
+                List.of("http://server-1:9090", "http://server-2:9090"), new SimpleMeterRegistry());
+
+        assertThat(totalLimit(pooled), equalTo(200));
+    }
+
+    @Test
+    void limitShrinksOnDroppedRequestsEvenWhenIdle() {
+        ConcurrencyLimiter limiter = limiter(40);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+            limiter.release(10 * MILLIS, true);
+        }
+
+        assertThat(limiter.getLimit(), lessThan(40));
+    }
+
+    private int totalLimit(Bulkheads pooled) {
+        int total = 0;
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            total += pooled.limit(bulkhead);
+        }
+        return total;
+    }
+
+    private ConcurrencyLimiter limiter(int initialLimit) {
+        ConcurrencyLimitProperties limits = new ConcurrencyLimitProperties();
+        limits.setInitialLimit(initialLimit);
+        limits.setMaxLimit(100);
+        return new ConcurrencyLimiter(limits, 100, 1);
+    }
+
+    private static void saturate(ConcurrencyLimiter limiter) {
+        while (limiter.tryAcquire()) {
+            if (limiter.getInFlight() > 200) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    private static class TestClient extends BaseClient {
+        TestClient(WebClient webClient, Bulkheads bulkheads) {
+            super(webClient, null, bulkheads, Bulkhead.BOOKINGS);
+        }
+
+        @Override
+        protected Bulkhead bulkheadFor(String path) {
+            return path.startsWith("/items/search") ? Bulkhead.SEARCH : Bulkhead.BOOKINGS;
+        }
+
+        @Override
+        public CompletableFuture<ResponseEntity<Object>> get(String path, long userId) {
+            return super.get(path, userId);
+        }
+
+        @Override
+        public <T> CompletableFuture<ResponseEntity<Object>> post(String path, long userId, T body) {
+            return super.post(path, userId, body);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import ru.practicum.shareit.exception.ServerUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CircuitBreakersTest {
+    private ShareitServerStub server;
+    private AtomicLong clock;
+    private MeterRegistry meterRegistry;
+    private CircuitBreakers circuitBreakers;
+    private TestClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = new ShareitServerStub();
+        CircuitBreakerProperties properties = new CircuitBreakerProperties();
+        properties.setWindowSize(4);
+        properties.setMinimumCalls(4);
+        properties.setFailureRateThreshold(50);
+        properties.setOpenDuration(Duration.ofSeconds(10));
+        properties.setHalfOpenCalls(1);
+        clock = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakers = new CircuitBreakers(properties, meterRegistry, clock::get);
+        client = new TestClient(WebClient.builder().baseUrl(server.url()).build(), circuitBreakers);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void breakerOpensAndFailsFastWhenFailureRateIsExceeded() throws Exception {
+        server.respond("/bookings", 503, "{}");
+        server.respond("/bookings/1", 200, "{\"id\":1}");
+
+        get("/bookings/1");
+        get("/bookings/1");
+        get("/bookings");
+        get("/bookings");
+
+        assertThat(circuitBreakers.state(Bulkhead.BOOKINGS), equalTo(CircuitBreaker.State.OPEN));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> get("/bookings/1"));
+        assertThat(error.getCause(), instanceOf(ServerUnavailableException.class));
+        assertThat(server.requestCount(), equalTo(4));
+        assertThat(meterRegistry.get("shareit.gateway.circuit-breaker.calls")
+                .tags("route", "bookings", "result", "rejected").counter().count(), equalTo(1.0));
+    }
+
+    @Test
+    void clientErrorsDoNotOpenBreaker() throws Exception {
+        server.respond("/bookings/1", 404, "{\"error\":\"Бронирование не найдено\"}");
+
+        for (int i = 0; i < 8; i++) {
+            assertThat(get("/bookings/1").getStatusCode(), equalTo(HttpStatus.NOT_FOUND));
+        }
+
+        assertThat(circuitBreakers.state(Bulkhead.BOOKINGS), equalTo(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void connectionFailuresOpenBreaker() {
+        client = new TestClient(WebClient.builder().baseUrl("http://localhost:1").build(), circuitBreakers);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ExecutionException.class, () -> get("/bookings"));
+        }
+
+        assertThat(circuitBreakers.state(Bulkhead.BOOKINGS), equalTo(CircuitBreaker.State.OPEN));
+    }
+
+    @Test
+    void successfulProbeClosesBreaker() throws Exception {
+        ShareitServerStub.Response stub = server.respond("/bookings", 503, "{}");
+        openBreaker();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        server.respond("/bookings", 200, "[]");
+
+        assertThat(get("/bookings").getStatusCode(), equalTo(HttpStatus.OK));
+        assertThat(circuitBreakers.state(Bulkhead.BOOKINGS), equalTo(CircuitBreaker.State.CLOSED));
+        assertThat(stub.lastRequestHeader("X-sharer-user-id"), equalTo("1"));
+    }
+
+    @Test
+    void failedProbeReopensBreaker() throws Exception {
+        server.respond("/bookings", 503, "{}");
+        openBreaker();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        get("/bookings");
+
+        assertThat(circuitBreakers.state(Bulkhead.BOOKINGS), equalTo(CircuitBreaker.State.OPEN));
+        assertThrows(ExecutionException.class, () -> get("/bookings"));
+    }
+
+    @Test
+    void halfOpenBreakerLimitsProbes() throws Exception {
+        server.respond("/bookings", 503, "{}");
+        openBreaker();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        server.respond("/bookings", 200, "[]").delay(300);
+
+        CompletableFuture<ResponseEntity<Object>> probe = client.get("/bookings", 1);
+        ExecutionException error = assertThrows(ExecutionException.class,
+                () -> client.get("/bookings", 2).get(5, TimeUnit.SECONDS));
+
+        assertThat(error.getCause(), instanceOf(ServerUnavailableException.class));
+        assertThat(probe.get(5, TimeUnit.SECONDS).getStatusCode(), equalTo(HttpStatus.OK));
+    }
+
+    @Test
+    void routesHaveSeparateBreakers() throws Exception {
+        server.respond("/bookings", 503, "{}");
+        server.respond("/items/search", 200, "[]");
+        openBreaker();
+
+        assertThat(get("/items/search").getStatusCode(), equalTo(HttpStatus.OK));
+    }
+
+    private void openBreaker() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            get("/bookings");
+        }
+        assertThat(circuitBreakers.state(Bulkhead.BOOKINGS), equalTo(CircuitBreaker.State.OPEN));
+    }
+
+    private ResponseEntity<Object> get(String path) throws Exception {
+        return client.get(path, 1).get(5, TimeUnit.SECONDS);
+    }
+
+    private static class TestClient extends BaseClient {
+        TestClient(WebClient webClient, CircuitBreakers circuitBreakers) {
+            super(webClient, null, null, circuitBreakers, Bulkhead.BOOKINGS);
+        }
+
+        @Override
+        protected Bulkhead bulkheadFor(String path) {
+            return path.startsWith("/items/search") ? Bulkhead.SEARCH : Bulkhead.BOOKINGS;
+        }
+
+        @Override
+        public CompletableFuture<ResponseEntity<Object>> get(String path, long userId) {
+            return super.get(path, userId);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Metrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+@SpringBootTest(properties = "shareit-server.http.max-connections-per-route=20")
+public class HttpClientConfigTest {
+    @Autowired
+    private ConnectionProvider connectionProvider;
+
+    @Autowired
+    private ClientHttpConnector connector;
+
+    @Test
+    void connectionPoolUsesConfiguredLimits() {
+        assertThat(connectionProvider.maxConnections(), equalTo(20));
+    }
+
+    @Test
+    void connectionPoolUsageIsPublishedAsMetrics() {
+        try (ShareitServerStub server = new ShareitServerStub()) {
+            server.respond("/users", 200, "[]");
+
+            WebClient.builder()
+                    .baseUrl(server.url())
+                    .clientConnector(connector)
+                    .build()
+                    .get()
+                    .uri("/users")
+                    .retrieve()
+                    .toBodilessEntity()
+                    .block(Duration.ofSeconds(5));
+
+            assertThat(Metrics.globalRegistry.find("reactor.netty.connection.provider.total.connections")
+                    .tag("name", "shareit-server")
+                    .gauge(), notNullValue());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ResponseCacheTest {
+    private static final String ITEM_JSON = "{\"id\":1,\"name\":\"Дрель\"}";
+
+    private ShareitServerStub server;
+    private ResponseCacheProperties properties;
+    private MeterRegistry meterRegistry;
+    private ResponseCache responseCache;
+    private TestClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = new ShareitServerStub();
+        properties = new ResponseCacheProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        responseCache = new ResponseCache(properties, meterRegistry);
+        client = new TestClient(WebClient.builder().baseUrl(server.url()).build(), responseCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void unchangedResponseIsRevalidatedWithEtag() throws Exception {
+        ShareitServerStub.Response stub = server.respond("/items/1", 200, ITEM_JSON).header("ETag", "\"v1\"");
+
+        client.getItem(1, 7);
+        ResponseEntity<Object> response = client.getItem(1, 7);
+
+        assertThat(stub.lastRequestHeader("If-none-match"), equalTo("\"v1\""));
+        assertThat(server.requestCount(), equalTo(2));
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.OK));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo(ITEM_JSON));
+        assertThat(requests("revalidated"), equalTo(1.0));
+    }
+
+    @Test
+    void freshResponseIsServedWithoutServerCall() throws Exception {
+        properties.setFreshFor(Duration.ofMinutes(1));
+        server.respond("/items/1", 200, ITEM_JSON).header("ETag", "\"v1\"");
+
+        client.getItem(1, 7);
+        ResponseEntity<Object> response = client.getItem(1, 7);
+
+        assertThat(server.requestCount(), equalTo(1));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo(ITEM_JSON));
+        assertThat(requests("hit"), equalTo(1.0));
+    }
+
+    @Test
+    void userSpecificResponsesAreCachedPerUser() throws Exception {
+        ShareitServerStub.Response stub = server.respond("/items/1", 200, ITEM_JSON).header("ETag", "\"v1\"");
+
+        client.getItem(1, 7);
+        client.getItem(1, 8);
+
+        assertThat(stub.lastRequestHeader("If-none-match"), nullValue());
+        assertThat(responseCache.size(), equalTo(2L));
+    }
+
+    @Test
+    void writeInvalidatesCachedResponses() throws Exception {
+        ShareitServerStub.Response stub = server.respond("/items/1", 200, ITEM_JSON).header("ETag", "\"v1\"");
+
+        client.getItem(1, 7);
+        client.updateItem(1, 7).get(5, TimeUnit.SECONDS);
+        client.getItem(1, 7);
+
+        assertThat(stub.lastRequestHeader("If-none-match"), nullValue());
+    }
+
+    @Test
+    void failedWriteKeepsCachedResponses() throws Exception {
+        ShareitServerStub.Response stub = server.respond("/items/1", 200, ITEM_JSON).header("ETag", "\"v1\"");
+
+        client.getItem(1, 7);
+        client.updateItem(2, 7).get(5, TimeUnit.SECONDS);
+        client.updateItem(1, 7, "/items/2").get(5, TimeUnit.SECONDS);
+        client.getItem(1, 7);
+
+        assertThat(stub.lastRequestHeader("If-none-match"), equalTo("\"v1\""));
+    }
+
+    @Test
+    void writeKeepsUnrelatedCachedResponses() throws Exception {
+        server.respond("/items/1", 200, ITEM_JSON).header("ETag", "\"v1\"");
+        ShareitServerStub.Response other = server.respond("/items/2", 200, ITEM_JSON).header("ETag", "\"v2\"");
+
+        client.getItem(2, 7);
+        client.updateItem(1, 7).get(5, TimeUnit.SECONDS);
+        client.getItem(2, 7);
+
+        assertThat(other.lastRequestHeader("If-none-match"), equalTo("\"v2\""));
+    }
+
+    @Test
+    void responseStartedBeforeWriteIsNotCached() throws Exception {
+        server.respond("/items/1", 200, ITEM_JSON).header("ETag", "\"v1\"").delay(500);
+        server.respond("/items/1/name", 200, "{}");
+
+        CompletableFuture<ResponseEntity<Object>> staleRead = client.getItemAsync(1, 7);
+        client.updateItem(1, 7, "/items/1/name").get(5, TimeUnit.SECONDS);
+        staleRead.get(5, TimeUnit.SECONDS);
+
+        assertThat(responseCache.size(), equalTo(0L));
+    }
+
+    @Test
+    void responseWithoutEtagIsNotCached() throws Exception {
+        server.respond("/items/1", 200, ITEM_JSON);
+
+        client.getItem(1, 7);
+
+        assertThat(responseCache.size(), equalTo(0L));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("shareit.gateway.cache.requests", "result", result).count();
+    }
+
+    private static class TestClient extends BaseClient {
+        TestClient(WebClient webClient, ResponseCache responseCache) {
+            super(webClient, responseCache);
+        }
+
+        ResponseEntity<Object> getItem(long itemId, long userId) throws Exception {
+            return getItemAsync(itemId, userId).get(5, TimeUnit.SECONDS);
+        }
+
+        CompletableFuture<ResponseEntity<Object>> getItemAsync(long itemId, long userId) {
+            return getCached("/items/{itemId}", userId, Map.of("itemId", itemId), true);
+        }
+
+        CompletableFuture<ResponseEntity<Object>> updateItem(long itemId, long userId) {
+            return updateItem(itemId, userId, "/items/" + itemId);
+        }
+
+        CompletableFuture<ResponseEntity<Object>> updateItem(long itemId, long userId, String path) {
+            return invalidateOnSuccess(patch(path, userId, Map.of("name", "Отвертка")), "/items/" + itemId);
+        }
+    }
+}
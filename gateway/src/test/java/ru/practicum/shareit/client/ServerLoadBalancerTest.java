@@ -0,0 +1,149 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ServerLoadBalancerTest {
+    private ShareitServerStub first;
+    private ShareitServerStub second;
+    private ShareitServerStub third;
+    private LoadBalancerProperties properties;
+    private AtomicLong clock;
+    private ServerLoadBalancer loadBalancer;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        first = new ShareitServerStub();
+        second = new ShareitServerStub();
+        third = new ShareitServerStub();
+        properties = new LoadBalancerProperties();
+        properties.setConsecutiveFailures(2);
+        properties.setEjectionDuration(Duration.ofSeconds(30));
+        properties.setMaxEjectionPercent(50);
+        clock = new AtomicLong();
+        loadBalancer = new ServerLoadBalancer(
+                Stream.of(first, second, third).map(ShareitServerStub::url).collect(Collectors.toList()),
+                properties,
+                new ReactorClientHttpConnector(),
+                new SimpleMeterRegistry(),
+                clock::get
+        );
+        webClient = WebClient.builder()
+                .baseUrl(ServerLoadBalancer.BASE_URL)
+                .filter(loadBalancer)
+                .build();
+        for (ShareitServerStub server : List.of(first, second, third)) {
+            server.respond("/bookings", 200, "[]");
+            server.respond("/actuator/health", 200, "{\"status\":\"UP\"}");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        first.close();
+        second.close();
+        third.close();
+    }
+
+    @Test
+    void requestsAreSpreadAcrossInstances() {
+        for (int i = 0; i < 60; i++) {
+            assertThat(get("/bookings?from={from}", i), equalTo(HttpStatus.OK));
+        }
+
+        assertThat(first.requestCount(), greaterThan(0));
+        assertThat(second.requestCount(), greaterThan(0));
+        assertThat(third.requestCount(), greaterThan(0));
+        assertThat(first.requestCount() + second.requestCount() + third.requestCount(), equalTo(60));
+    }
+
+    @Test
+    void instanceWithFewerOutstandingRequestsIsChosen() {
+        loadBalancer = new ServerLoadBalancer(List.of(first.url(), second.url()), properties,
+                new ReactorClientHttpConnector(), new SimpleMeterRegistry(), clock::get);
+        ServerInstance busy = loadBalancer.instances().get(0);
+        busy.acquire();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalancer.choose(), sameInstance(loadBalancer.instances().get(1)));
+        }
+    }
+
+    @Test
+    void failingInstanceIsEjectedAndReturnsAfterEjection() {
+        first.respond("/bookings", 503, "{}");
+
+        for (int i = 0; i < 30; i++) {
+            get("/bookings?from={from}", i);
+        }
+
+        assertThat(first.requestCount(), equalTo(2));
+        assertThat(loadBalancer.instances().get(0).isEjected(clock.get()), equalTo(true));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        assertThat(loadBalancer.instances().get(0).isEjected(clock.get()), equalTo(false));
+    }
+
+    @Test
+    void ejectionIsCappedByMaxEjectionPercent() {
+        first.respond("/bookings", 503, "{}");
+        second.respond("/bookings", 503, "{}");
+
+        for (int i = 0; i < 60; i++) {
+            get("/bookings?from={from}", i);
+        }
+
+        long ejected = loadBalancer.instances().stream().filter(instance -> instance.isEjected(clock.get())).count();
+        assertThat(ejected, equalTo(1L));
+    }
+
+    @Test
+    void unhealthyInstancesAreSkipped() {
+        first.respond("/actuator/health", 503, "{\"status\":\"DOWN\"}");
+        third.close();
+
+        loadBalancer.checkHealth().block(Duration.ofSeconds(5));
+        int secondBefore = second.requestCount();
+        for (int i = 0; i < 10; i++) {
+            assertThat(get("/bookings?from={from}", i), equalTo(HttpStatus.OK));
+        }
+
+        assertThat(second.requestCount() - secondBefore, equalTo(10));
+    }
+
+    @Test
+    void allInstancesAreUsedWhenNoneIsHealthy() {
+        for (ShareitServerStub server : List.of(first, second, third)) {
+            server.respond("/actuator/health", 503, "{\"status\":\"DOWN\"}");
+        }
+
+        loadBalancer.checkHealth().block(Duration.ofSeconds(5));
+
+        assertThat(get("/bookings?from={from}", 0), equalTo(HttpStatus.OK));
+    }
+
+    private HttpStatus get(String uri, Object... variables) {
+        return webClient.get()
+                .uri(uri, variables)
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()))
+                .block(Duration.ofSeconds(5));
+    }
+}
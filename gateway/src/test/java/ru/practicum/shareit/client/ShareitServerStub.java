@@ -0,0 +1,116 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ShareitServerStub implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Response> responses = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    ShareitServerStub() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    Response respond(String path, int status, String body) {
+        Response response = new Response(status, body);
+        responses.put(path, response);
+        return response;
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        Response response = responses.get(exchange.getRequestURI().getPath());
+        if (response == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        response.lastRequestHeaders.clear();
+        exchange.getRequestHeaders().forEach((name, values) -> response.lastRequestHeaders.put(name, values.get(0)));
+        if (response.delayMillis > 0) {
+            try {
+                Thread.sleep(response.delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        String etag = response.headers.get("ETag");
+        if (etag != null && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.getResponseHeaders().set("ETag", etag);
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+        response.headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+
+    static class Response {
+        private final int status;
+        private final String body;
+        private final Map<String, String> headers = new ConcurrentHashMap<>();
+        private final Map<String, String> lastRequestHeaders = new ConcurrentHashMap<>();
+        private volatile long delayMillis;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        Response header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        Response delay(long millis) {
+            this.delayMillis = millis;
+            return this;
+        }
+
+        String lastRequestHeader(String name) {
+            return lastRequestHeaders.get(name);
+        }
+    }
+}
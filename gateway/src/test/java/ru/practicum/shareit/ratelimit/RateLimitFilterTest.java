@@ -0,0 +1,159 @@
+package ru.practicum.shareit.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class RateLimitFilterTest {
+    private RateLimitProperties properties;
+    private MeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.getSearch().setCapacity(2);
+        properties.getSearch().setRefillPerSecond(0.001);
+        properties.getWrites().setCapacity(1);
+        properties.getWrites().setRefillPerSecond(0.001);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, meterRegistry);
+    }
+
+    @Test
+    void requestsOverCapacityAreRejected() throws Exception {
+        assertThat(send("GET", "/items/search", 1L).getStatus(), equalTo(200));
+        assertThat(send("GET", "/items/search", 1L).getStatus(), equalTo(200));
+
+        MockHttpServletResponse response = send("GET", "/items/search", 1L);
+
+        assertThat(response.getStatus(), equalTo(429));
+        assertThat(response.getHeader("Retry-After"), equalTo("1000"));
+        assertThat(response.getContentAsString(), containsString("error"));
+        assertThat(meterRegistry.get("shareit.gateway.rate-limit.rejected").tag("endpoint", "search")
+                .counter().count(), equalTo(1.0));
+    }
+
+    @Test
+    void limitsAreTrackedPerUserAndEndpointClass() throws Exception {
+        assertThat(send("POST", "/bookings", 1L).getStatus(), equalTo(200));
+        assertThat(send("POST", "/bookings", 1L).getStatus(), equalTo(429));
+
+        assertThat(send("POST", "/bookings", 2L).getStatus(), equalTo(200));
+        assertThat(send("GET", "/items/search", 1L).getStatus(), equalTo(200));
+    }
+
+    @Test
+    void singleResourceReadsAreNotLimited() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertThat(send("GET", "/items/1", 1L).getStatus(), equalTo(200));
+        }
+        assertThat(filter.bucketCount(), equalTo(0L));
+    }
+
+    @Test
+    void requestsWithoutUserAreLimitedByAddress() throws Exception {
+        assertThat(send("POST", "/users", null).getStatus(), equalTo(200));
+        assertThat(send("POST", "/users", null).getStatus(), equalTo(429));
+    }
+
+    @Test
+    void bucketCountIsBounded() throws Exception {
+        properties.setMaxBuckets(5);
+
+        for (long userId = 0; userId < 20; userId++) {
+            send("GET", "/items/search", userId);
+        }
+
+        assertThat(filter.bucketCount(), lessThanOrEqualTo(5L));
+    }
+
+    @Test
+    void throttledUserStaysThrottledWhileNewUsersArrive() throws Exception {
+        properties.setMaxBuckets(5);
+        assertThat(send("POST", "/bookings", 1L).getStatus(), equalTo(200));
+        assertThat(send("POST", "/bookings", 1L).getStatus(), equalTo(429));
+
+        for (long userId = 100; userId < 120; userId++) {
+            send("POST", "/bookings", userId);
+        }
+
+        assertThat(send("POST", "/bookings", 1L).getStatus(), equalTo(429));
+    }
+
+    @Test
+    void usersOverBucketLimitShareOverflowBucket() throws Exception {
+        properties.setMaxBuckets(1);
+
+        assertThat(send("GET", "/items/search", 1L).getStatus(), equalTo(200));
+        assertThat(send("GET", "/items/search", 2L).getStatus(), equalTo(200));
+        assertThat(send("GET", "/items/search", 3L).getStatus(), equalTo(200));
+        assertThat(send("GET", "/items/search", 4L).getStatus(), equalTo(429));
+        assertThat(send("GET", "/items/search", 1L).getStatus(), equalTo(200));
+    }
+
+    @Test
+    void idleBucketsExpireOnceRefilled() throws Exception {
+        RateLimitProperties.Limit fast = new RateLimitProperties.Limit();
+        fast.setCapacity(1);
+        fast.setRefillPerSecond(1000);
+        properties.setSearch(fast);
+        properties.setListing(fast);
+        properties.setWrites(fast);
+        filter = new RateLimitFilter(properties, meterRegistry);
+
+        send("POST", "/bookings", 1L);
+        Thread.sleep(50);
+
+        assertThat(filter.bucketCount(), equalTo(0L));
+    }
+
+    @Test
+    void disabledFilterPassesEverything() throws Exception {
+        properties.setEnabled(false);
+
+        assertThat(send("POST", "/bookings", 1L).getStatus(), equalTo(200));
+        assertThat(send("POST", "/bookings", 1L).getStatus(), equalTo(200));
+    }
+
+    @Test
+    void bucketRefillsOverTime() {
+        long start = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(1, 2, start);
+
+        assertThat(bucket.tryAcquire(start), equalTo(true));
+        assertThat(bucket.tryAcquire(start), equalTo(false));
+        assertThat(bucket.nanosUntilNextToken(start), equalTo(TimeUnit.MILLISECONDS.toNanos(500)));
+        assertThat(bucket.tryAcquire(start + TimeUnit.MILLISECONDS.toNanos(500)), equalTo(true));
+    }
+
+    private MockHttpServletResponse send(String method, String uri, Long userId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (userId != null) {
+            request.addHeader("X-Sharer-User-Id", userId);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        if (response.getStatus() != 429) {
+            assertThat(chain.getRequest() == null, equalTo(false));
+        } else {
+            assertThat(chain.getRequest(), nullValue());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,37 @@
+package ru.practicum.shareit.booking.availability;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.BookingConflictException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class BookingAvailability {
+    private static final List<BookingStatus> BLOCKING_STATUSES = List.of(BookingStatus.WAITING, BookingStatus.APPROVED);
+
+    private final BookingRepository bookingRepository;
+
+    @Autowired
+    public BookingAvailability(BookingRepository bookingRepository) {
+        this.bookingRepository = bookingRepository;
+    }
+
+    public boolean isFree(long itemId, LocalDateTime start, LocalDateTime end) {
+        return !bookingRepository.existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(itemId, BLOCKING_STATUSES, end, start);
+    }
+
+    public void reserve(Booking booking) {
+        if (!isFree(booking.getItem().getId(), booking.getStart(), booking.getEnd())) {
+            throw new BookingConflictException(
+                    String.format("Вещь с id = %d уже забронирована на период с %s по %s",
+                            booking.getItem().getId(),
+                            booking.getStart(),
+                            booking.getEnd()));
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package ru.practicum.shareit.booking.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.List;
 
@@ -26,19 +28,23 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingResponseDto> getBookings(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                @RequestParam BookingState state,
-                                                @RequestParam int from,
-                                                @RequestParam int size) {
-        return bookingService.getBookings(userId, state, from, size);
+    public ResponseEntity<List<BookingResponseDto>> getBookings(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                @RequestParam BookingState state,
+                                                                @RequestParam int from,
+                                                                @RequestParam int size,
+                                                                @RequestParam(required = false) String cursor) {
+        return PageCursor.withNextCursor(bookingService.getBookings(userId, state, from, size, cursor), size,
+                booking -> PageCursor.of(booking.getStart(), booking.getId()));
     }
 
     @GetMapping("/owner")
-    public List<BookingResponseDto> getBookingsByItemOwner(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                           @RequestParam BookingState state,
-                                                           @RequestParam int from,
-                                                           @RequestParam int size) {
-        return bookingService.getBookingsByItemOwner(userId, state, from, size);
+    public ResponseEntity<List<BookingResponseDto>> getBookingsByItemOwner(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                           @RequestParam BookingState state,
+                                                                           @RequestParam int from,
+                                                                           @RequestParam int size,
+                                                                           @RequestParam(required = false) String cursor) {
+        return PageCursor.withNextCursor(bookingService.getBookingsByItemOwner(userId, state, from, size, cursor), size,
+                booking -> PageCursor.of(booking.getStart(), booking.getId()));
     }
 
     @PostMapping
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class BookingShortDto {
+    private final long id;
+    private final long bookerId;
+    private final long itemId;
+    private final LocalDateTime start;
+}
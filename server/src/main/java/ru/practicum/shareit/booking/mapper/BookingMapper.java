@@ -7,6 +7,9 @@ import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.item.model.Item;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class BookingMapper {
     public static Booking dtoToBooking(BookingRequestDto bookingDto) {
@@ -15,8 +18,8 @@ public class BookingMapper {
         item.setId(bookingDto.getItemId());
 
         booking.setItem(item);
-        booking.setStart(bookingDto.getStart());
-        booking.setEnd(bookingDto.getEnd());
+        booking.setStart(truncate(bookingDto.getStart()));
+        booking.setEnd(truncate(bookingDto.getEnd()));
         return booking;
     }
 
@@ -30,4 +33,8 @@ public class BookingMapper {
                 .status(booking.getStatus())
                 .build();
     }
+
+    private static LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.truncatedTo(ChronoUnit.MICROS);
+    }
 }
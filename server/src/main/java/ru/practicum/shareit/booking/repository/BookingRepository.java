@@ -1,50 +1,60 @@
 package ru.practicum.shareit.booking.repository;
 
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findBookingsByBooker_Id(long userId, Pageable pageable);
-
-    List<Booking> findBookingsByBooker_idAndStartIsBeforeAndEndIsAfter(long userId,
-                                                                       LocalDateTime nowToStart,
-                                                                       LocalDateTime nowToEnd,
-                                                                       Pageable pageable);
-
-    List<Booking> findBookingsByBooker_IdAndStatus(long userId, BookingStatus status, Pageable pageable);
-
-    List<Booking> findBookingsByBooker_IdAndEndIsBefore(long userId, LocalDateTime now, Pageable pageable);
-
-    List<Booking> findBookingsByBooker_IdAndStartIsAfter(long userId, LocalDateTime now, Pageable pageable);
-
-    List<Booking> findBookingsByItem_IdInAndStartIsBeforeAndEndIsAfter(List<Long> itemsId,
-                                                                       LocalDateTime nowToStart,
-                                                                       LocalDateTime nowToEnd,
-                                                                       Pageable pageable);
-
-    List<Booking> findBookingsByItem_IdInAndStatus(List<Long> itemsId, BookingStatus status, Pageable pageable);
-
-    List<Booking> findBookingsByItem_IdInAndEndIsBefore(List<Long> itemsId, LocalDateTime now, Pageable pageable);
-
-    List<Booking> findBookingsByItem_IdIn(List<Long> itemsId, Pageable pageable);
-
-    List<Booking> findBookingsByItem_IdInAndStartIsAfter(List<Long> itemsId, LocalDateTime now, Pageable pageable);
-
-    List<Booking> findBookingsByItem_IdAndStartIsBeforeAndStatus(long itemId,
-                                                                 LocalDateTime now,
-                                                                 BookingStatus status,
-                                                                 Sort sort);
-
-    List<Booking> findBookingsByItem_IdAndStartIsAfterAndStatus(long itemId,
-                                                                LocalDateTime now,
-                                                                BookingStatus status,
-                                                                Sort sort);
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingRepositoryCustom {
+    boolean existsByBooker_IdAndItem_IdAndStatusAndStartBefore(long bookerId,
+                                                               long itemId,
+                                                               BookingStatus status,
+                                                               LocalDateTime start);
+
+    boolean existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(long itemId,
+                                                                Collection<BookingStatus> statuses,
+                                                                LocalDateTime end,
+                                                                LocalDateTime start);
+
+    @Query("select new ru.practicum.shareit.booking.dto.BookingShortDto(b.id, b.booker.id, b.item.id, b.start) " +
+            "from Booking b " +
+            "where b.item.id in ?1 " +
+            "and b.status = ?3 " +
+            "and (b.start = (select max(lb.start) from Booking lb " +
+            "where lb.item = b.item and lb.status = ?3 and lb.start < ?2) " +
+            "or b.start = (select min(nb.start) from Booking nb " +
+            "where nb.item = b.item and nb.status = ?3 and nb.start > ?2))")
+    List<BookingShortDto> findLastAndNextBookingsByItemIds(Collection<Long> itemIds,
+                                                           LocalDateTime now,
+                                                           BookingStatus status);
+
+    @Query("select new ru.practicum.shareit.booking.dto.BookingShortDto(b.id, b.booker.id, b.item.id, b.start) " +
+            "from Booking b " +
+            "where b.item.id = ?1 " +
+            "and b.status = ?3 " +
+            "and b.start < ?2 " +
+            "order by b.start desc")
+    List<BookingShortDto> findLastBookingsByItemId(long itemId,
+                                                   LocalDateTime now,
+                                                   BookingStatus status,
+                                                   Pageable pageable);
+
+    @Query("select new ru.practicum.shareit.booking.dto.BookingShortDto(b.id, b.booker.id, b.item.id, b.start) " +
+            "from Booking b " +
+            "where b.item.id = ?1 " +
+            "and b.status = ?3 " +
+            "and b.start > ?2 " +
+            "order by b.start asc")
+    List<BookingShortDto> findNextBookingsByItemId(long itemId,
+                                                   LocalDateTime now,
+                                                   BookingStatus status,
+                                                   Pageable pageable);
 }
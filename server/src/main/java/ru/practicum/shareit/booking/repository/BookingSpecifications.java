@@ -0,0 +1,56 @@
+package ru.practicum.shareit.booking.repository;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.exception.WrongBookingStateException;
+import ru.practicum.shareit.pagination.PageCursor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BookingSpecifications {
+    public static Specification<Booking> byBooker(long userId) {
+        return (root, query, builder) -> builder.equal(root.get("booker").get("id"), userId);
+    }
+
+    public static Specification<Booking> byItemOwner(long ownerId) {
+        return (root, query, builder) -> builder.equal(root.get("item").get("owner").get("id"), ownerId);
+    }
+
+    public static Specification<Booking> inState(BookingState state, LocalDateTime now) {
+        switch (state) {
+            case ALL:
+                return (root, query, builder) -> builder.conjunction();
+            case WAITING:
+                return withStatus(BookingStatus.WAITING);
+            case REJECTED:
+                return withStatus(BookingStatus.REJECTED);
+            case CURRENT:
+                return (root, query, builder) -> builder.and(
+                        builder.lessThan(root.get("start"), now),
+                        builder.greaterThan(root.get("end"), now));
+            case PAST:
+                return (root, query, builder) -> builder.lessThan(root.get("end"), now);
+            case FUTURE:
+                return (root, query, builder) -> builder.greaterThan(root.get("start"), now);
+            default:
+                throw new WrongBookingStateException("Unknown state: " + state);
+        }
+    }
+
+    public static Specification<Booking> startingBefore(PageCursor cursor) {
+        return (root, query, builder) -> builder.or(
+                builder.lessThan(root.get("start"), cursor.getPosition()),
+                builder.and(
+                        builder.equal(root.get("start"), cursor.getPosition()),
+                        builder.lessThan(root.get("id"), cursor.getId())));
+    }
+
+    private static Specification<Booking> withStatus(BookingStatus status) {
+        return (root, query, builder) -> builder.equal(root.get("status"), status);
+    }
+}
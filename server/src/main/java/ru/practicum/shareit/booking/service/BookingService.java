@@ -1,11 +1,11 @@
 package ru.practicum.shareit.booking.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.availability.BookingAvailability;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
@@ -13,14 +13,17 @@ import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.BookingSpecifications;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.FromSizeRequest;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceCache;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,21 +32,29 @@ import static ru.practicum.shareit.exception.UnitNotFoundException.unitNotFoundE
 @Service
 @Transactional(readOnly = true)
 public class BookingService {
+    private static final Sort SORT_BY_START_DESC = Sort.by(Sort.Direction.DESC, "start", "id");
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final UserExistenceCache userExistenceCache;
     private final ItemRepository itemRepository;
+    private final BookingAvailability bookingAvailability;
 
     @Autowired
     public BookingService(BookingRepository bookingRepository,
                           UserRepository userRepository,
-                          ItemRepository itemRepository) {
+                          UserExistenceCache userExistenceCache,
+                          ItemRepository itemRepository,
+                          BookingAvailability bookingAvailability) {
         this.bookingRepository = bookingRepository;
         this.userRepository = userRepository;
+        this.userExistenceCache = userExistenceCache;
         this.itemRepository = itemRepository;
+        this.bookingAvailability = bookingAvailability;
     }
 
     public BookingResponseDto getBookingById(long userId, long bookingId) {
-        getUserById(userId);
+        userExistenceCache.checkExists(userId);
 
         Booking booking = getBookingById(bookingId);
         Item item = booking.getItem();
@@ -59,94 +70,14 @@ public class BookingService {
         return BookingMapper.bookingToDto(booking);
     }
 
-    public List<BookingResponseDto> getBookings(long userId, BookingState state, int from, int size) {
-        getUserById(userId);
-
-        Pageable pagination = PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "start"));
-        LocalDateTime currentDateTime = LocalDateTime.now();
-        List<Booking> bookings;
-
-        switch (state) {
-            case ALL:
-                bookings = bookingRepository
-                        .findBookingsByBooker_Id(userId, pagination);
-                break;
-            case WAITING:
-                bookings = bookingRepository
-                        .findBookingsByBooker_IdAndStatus(userId, BookingStatus.WAITING, pagination);
-                break;
-            case REJECTED:
-                bookings = bookingRepository
-                        .findBookingsByBooker_IdAndStatus(userId, BookingStatus.REJECTED, pagination);
-                break;
-            case CURRENT:
-                bookings = bookingRepository
-                        .findBookingsByBooker_idAndStartIsBeforeAndEndIsAfter(userId, currentDateTime, currentDateTime, pagination);
-                break;
-            case PAST:
-                bookings = bookingRepository
-                        .findBookingsByBooker_IdAndEndIsBefore(userId, currentDateTime, pagination);
-                break;
-            case FUTURE:
-                bookings = bookingRepository
-                        .findBookingsByBooker_IdAndStartIsAfter(userId, currentDateTime, pagination);
-                break;
-            default:
-                throw new WrongBookingStateException("Unknown state: " + state);
-        }
-
-        return bookings.stream()
-                .map(BookingMapper::bookingToDto)
-                .collect(Collectors.toList());
+    public List<BookingResponseDto> getBookings(long userId, BookingState state, int from, int size, String cursor) {
+        userExistenceCache.checkExists(userId);
+        return findBookings(BookingSpecifications.byBooker(userId), state, from, size, cursor);
     }
 
-    public List<BookingResponseDto> getBookingsByItemOwner(long userId, BookingState state, int from, int size) {
-        getUserById(userId);
-
-        List<Long> userItemsId = itemRepository
-                .findItemsByOwner_Id(userId).stream()
-                .map(Item::getId)
-                .collect(Collectors.toList());
-        Pageable pagination = PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "start"));
-        LocalDateTime currentDateTime = LocalDateTime.now();
-        List<Booking> bookings;
-
-        if (userItemsId.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        switch (state) {
-            case ALL:
-                bookings = bookingRepository
-                        .findBookingsByItem_IdIn(userItemsId, pagination);
-                break;
-            case WAITING:
-                bookings = bookingRepository
-                        .findBookingsByItem_IdInAndStatus(userItemsId, BookingStatus.WAITING, pagination);
-                break;
-            case REJECTED:
-                bookings = bookingRepository
-                        .findBookingsByItem_IdInAndStatus(userItemsId, BookingStatus.REJECTED, pagination);
-                break;
-            case CURRENT:
-                bookings = bookingRepository
-                        .findBookingsByItem_IdInAndStartIsBeforeAndEndIsAfter(userItemsId, currentDateTime, currentDateTime, pagination);
-                break;
-            case PAST:
-                bookings = bookingRepository
-                        .findBookingsByItem_IdInAndEndIsBefore(userItemsId, currentDateTime, pagination);
-                break;
-            case FUTURE:
-                bookings = bookingRepository
-                        .findBookingsByItem_IdInAndStartIsAfter(userItemsId, currentDateTime, pagination);
-                break;
-            default:
-                throw new WrongBookingStateException("Unknown state: " + state);
-        }
-
-        return bookings.stream()
-                .map(BookingMapper::bookingToDto)
-                .collect(Collectors.toList());
+    public List<BookingResponseDto> getBookingsByItemOwner(long userId, BookingState state, int from, int size, String cursor) {
+        userExistenceCache.checkExists(userId);
+        return findBookings(BookingSpecifications.byItemOwner(userId), state, from, size, cursor);
     }
 
     @Transactional
@@ -162,13 +93,18 @@ public class BookingService {
         }
 
         booking.setStatus(BookingStatus.WAITING);
+        bookingAvailability.reserve(booking);
 
         return BookingMapper.bookingToDto(bookingRepository.save(booking));
     }
 
     @Transactional
     public BookingResponseDto changeStatus(long userId, long bookingId, boolean approved) {
-        getUserById(userId);
+        userExistenceCache.checkExists(userId);
+
+        itemRepository
+                .lockByBookingId(bookingId)
+                .orElseThrow(unitNotFoundException("Запись бронирования с id = {0} не найдена", bookingId));
 
         Booking booking = getBookingById(bookingId);
 
@@ -184,6 +120,9 @@ public class BookingService {
         }
 
         if (approved) {
+            if (booking.getStatus().equals(BookingStatus.REJECTED)) {
+                bookingAvailability.reserve(booking);
+            }
             booking.setStatus(BookingStatus.APPROVED);
         } else {
             booking.setStatus(BookingStatus.REJECTED);
@@ -192,6 +131,26 @@ public class BookingService {
         return BookingMapper.bookingToDto(booking);
     }
 
+    private List<BookingResponseDto> findBookings(Specification<Booking> bookings,
+                                                  BookingState state,
+                                                  int from,
+                                                  int size,
+                                                  String cursor) {
+        Specification<Booking> specification = bookings
+                .and(BookingSpecifications.inState(state, LocalDateTime.now()));
+        long offset = from;
+
+        if (cursor != null) {
+            specification = specification.and(BookingSpecifications.startingBefore(PageCursor.decodeWithPosition(cursor)));
+            offset = 0;
+        }
+
+        return bookingRepository.findBookings(specification, FromSizeRequest.of(offset, size, SORT_BY_START_DESC))
+                .stream()
+                .map(BookingMapper::bookingToDto)
+                .collect(Collectors.toList());
+    }
+
     private boolean checkItemOwner(long userId, Item item) {
         return item.getOwner().getId() == userId;
     }
@@ -202,6 +161,7 @@ public class BookingService {
 
     private void enrichBooking(long userId, Booking booking) {
         User booker = getUserById(userId);
+        lockItem(booking.getItem().getId());
         Item item = itemRepository
                 .findById(booking.getItem().getId())
                 .orElseThrow(unitNotFoundException("Вещь с id = {0} не найдена", booking.getItem().getId()));
@@ -210,6 +170,12 @@ public class BookingService {
         booking.setItem(item);
     }
 
+    private void lockItem(long itemId) {
+        itemRepository
+                .lockById(itemId)
+                .orElseThrow(unitNotFoundException("Вещь с id = {0} не найдена", itemId));
+    }
+
     private User getUserById(long userId) {
         return userRepository
                 .findById(userId)
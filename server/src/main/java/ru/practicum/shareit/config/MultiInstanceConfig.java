@@ -0,0 +1,39 @@
+package ru.practicum.shareit.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "shareit.multi-instance", havingValue = "true")
+public class MultiInstanceConfig implements InitializingBean {
+    private static final String SECOND_LEVEL_CACHE = "spring.jpa.properties.hibernate.cache.use_second_level_cache";
+
+    private final Environment environment;
+
+    public MultiInstanceConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        List<String> localState = new ArrayList<>();
+        if ("memory".equals(environment.getProperty("shareit.search.engine"))) {
+            localState.add("shareit.search.engine=memory");
+        }
+        if (environment.getProperty(SECOND_LEVEL_CACHE, Boolean.class, false)) {
+            localState.add(SECOND_LEVEL_CACHE + "=true");
+        }
+        if (!localState.isEmpty()) {
+            throw new IllegalStateException("Несколько экземпляров сервера не могут хранить состояние в памяти процесса, "
+                    + "отключите: " + String.join(", ", localState));
+        }
+        log.info("Running as one of several server instances, the user existence cache is off");
+    }
+}
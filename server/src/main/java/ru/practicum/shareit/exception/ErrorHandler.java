@@ -1,6 +1,7 @@
 package ru.practicum.shareit.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -44,6 +45,22 @@ public class ErrorHandler {
         return new ResponseEntity<>(map, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleBookingConflict(BookingConflictException e) {
+        log.info(String.format("Ошибка %s: %s", e.getClass().getSimpleName(), e.getMessage()));
+        Map<String, String> map = new HashMap<>();
+        map.put("error", e.getMessage());
+        return new ResponseEntity<>(map, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleLockFailure(PessimisticLockingFailureException e) {
+        log.info(String.format("Ошибка %s: %s", e.getClass().getSimpleName(), e.getMessage()));
+        Map<String, String> map = new HashMap<>();
+        map.put("error", "Вещь изменяется другим запросом, повторите попытку позже");
+        return new ResponseEntity<>(map, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler
     public ResponseEntity<Map<String, String>> handleStatusAlreadySet(StatusAlreadySetException e) {
         log.info(String.format("Ошибка %s: %s", e.getClass().getSimpleName(), e.getMessage()));
@@ -51,4 +68,12 @@ public class ErrorHandler {
         map.put("error", e.getMessage());
         return new ResponseEntity<>(map, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler
+    public ResponseEntity<Map<String, String>> handleWrongCursor(WrongCursorException e) {
+        log.info(String.format("Ошибка %s: %s", e.getClass().getSimpleName(), e.getMessage()));
+        Map<String, String> map = new HashMap<>();
+        map.put("error", e.getMessage());
+        return new ResponseEntity<>(map, HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.exception;
+
+public class WrongCursorException extends RuntimeException {
+    public WrongCursorException(String message) {
+        super(message);
+    }
+}
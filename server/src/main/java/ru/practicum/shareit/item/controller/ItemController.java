@@ -9,6 +9,7 @@ import ru.practicum.shareit.item.dto.CommentResponseDto;
 import ru.practicum.shareit.item.dto.ItemRequestDto;
 import ru.practicum.shareit.item.dto.ItemResponseDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.util.List;
 
@@ -23,10 +24,12 @@ public class ItemController {
     }
 
     @GetMapping
-    public List<ItemResponseDto> getItems(@RequestHeader("X-Sharer-User-Id") long userId,
-                                          @RequestParam int from,
-                                          @RequestParam int size) {
-        return itemService.getItemsByUserId(userId, from, size);
+    public ResponseEntity<List<ItemResponseDto>> getItems(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                          @RequestParam int from,
+                                                          @RequestParam int size,
+                                                          @RequestParam(required = false) String cursor) {
+        return PageCursor.withNextCursor(itemService.getItemsByUserId(userId, from, size, cursor), size,
+                item -> PageCursor.of(item.getId()));
     }
 
     @GetMapping("/{itemId}")
@@ -0,0 +1,11 @@
+package ru.practicum.shareit.item.dto;
+
+import lombok.Data;
+
+@Data
+public class ItemShortDto {
+    private final long id;
+    private final String name;
+    private final String description;
+    private final boolean available;
+}
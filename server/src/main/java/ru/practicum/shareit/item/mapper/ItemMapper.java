@@ -2,14 +2,20 @@ package ru.practicum.shareit.item.mapper;
 
 import ru.practicum.shareit.item.dto.ItemRequestDto;
 import ru.practicum.shareit.item.dto.ItemResponseDto;
+import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.requests.model.ItemRequest;
 import ru.practicum.shareit.user.mapper.UserMapper;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class ItemMapper {
     public static ItemResponseDto itemToDto(Item item) {
+        return itemToDto(item, item.getComments());
+    }
+
+    public static ItemResponseDto itemToDto(Item item, List<Comment> comments) {
         ItemResponseDto.ItemResponseDtoBuilder dtoBuilder = ItemResponseDto.builder();
 
         dtoBuilder
@@ -25,19 +31,19 @@ public class ItemMapper {
 
         if (item.getLastBooking() != null) {
             ItemResponseDto.Booking lastBooking = new ItemResponseDto.Booking(item.getLastBooking().getId(),
-                    item.getLastBooking().getBooker().getId());
+                    item.getLastBooking().getBookerId());
             dtoBuilder.lastBooking(lastBooking);
         }
 
         if (item.getNextBooking() != null) {
             ItemResponseDto.Booking nextBooking = new ItemResponseDto.Booking(item.getNextBooking().getId(),
-                    item.getNextBooking().getBooker().getId());
+                    item.getNextBooking().getBookerId());
             dtoBuilder.nextBooking(nextBooking);
         }
 
-        if (item.getComments() != null) {
+        if (comments != null) {
             dtoBuilder.comments(
-                    item.getComments().stream()
+                    comments.stream()
                             .map(CommentMapper::commentToDto)
                             .collect(Collectors.toList()));
         }
@@ -2,6 +2,9 @@ package ru.practicum.shareit.item.model;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.requests.model.ItemRequest;
 import ru.practicum.shareit.user.model.User;
@@ -12,6 +15,7 @@ import java.util.List;
 @Setter
 @Getter
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "items")
 @Table(name = "items")
 public class Item {
     @Id
@@ -37,11 +41,12 @@ public class Item {
     private List<Booking> bookings;
 
     @OneToMany(mappedBy = "item")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "items.comments")
     private List<Comment> comments;
 
     @Transient
-    private Booking lastBooking;
+    private BookingShortDto lastBooking;
 
     @Transient
-    private Booking nextBooking;
+    private BookingShortDto nextBooking;
 }
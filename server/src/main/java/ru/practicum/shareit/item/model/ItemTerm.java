@@ -0,0 +1,34 @@
+package ru.practicum.shareit.item.model;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "item_terms")
+public class ItemTerm {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_terms_seq")
+    @SequenceGenerator(name = "item_terms_seq", sequenceName = "item_terms_seq", allocationSize = 50)
+    @Column(name = "term_id")
+    private long id;
+
+    @Column(name = "item_id", nullable = false)
+    private long itemId;
+
+    @Column(nullable = false)
+    private String term;
+
+    private int weight;
+
+    public ItemTerm(long itemId, String term, int weight) {
+        this.itemId = itemId;
+        this.term = term;
+        this.weight = weight;
+    }
+}
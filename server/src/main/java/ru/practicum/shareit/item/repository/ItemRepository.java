@@ -1,23 +1,54 @@
 package ru.practicum.shareit.item.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.dto.ItemShortDto;
 import ru.practicum.shareit.item.model.Item;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findItemsByOwner_Id(long userId);
+    @EntityGraph(attributePaths = "owner")
+    Optional<Item> findWithOwnerById(long itemId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i.id from Item i where i.id = ?1")
+    Optional<Long> lockById(long itemId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i.id from Item i where i.id = (select b.item.id from Booking b where b.id = ?1)")
+    Optional<Long> lockByBookingId(long bookingId);
+
+    @EntityGraph(attributePaths = {"owner", "request", "request.requestor"})
+    List<Item> findItemsByIdIn(Collection<Long> itemIds);
+
+    @EntityGraph(attributePaths = "owner")
+    List<Item> findItemsByRequest_IdIn(Collection<Long> itemRequestIds);
+
+    @EntityGraph(attributePaths = {"owner", "request", "request.requestor"})
     List<Item> findItemsByOwner_Id(long userId, Pageable pageable);
 
-    @Query("select i " +
+    @EntityGraph(attributePaths = {"owner", "request", "request.requestor"})
+    List<Item> findItemsByOwner_IdAndIdGreaterThan(long userId, long itemId, Pageable pageable);
+
+    @Query("select new ru.practicum.shareit.item.dto.ItemShortDto(i.id, i.name, i.description, i.available) " +
+            "from Item i " +
+            "where i.id > ?1 " +
+            "order by i.id")
+    List<ItemShortDto> findItemsForIndexing(long afterId, Pageable pageable);
+
+    @Query("select new ru.practicum.shareit.item.dto.ItemShortDto(i.id, i.name, i.description, i.available) " +
             "from Item i " +
-            "where (upper(i.name) like upper(concat('%', ?1, '%')) " +
-            "or upper(i.description) like upper(concat('%', ?1, '%'))) " +
-            "and i.available = true")
-    List<Item> searchItems(String query, Pageable pageable);
+            "where i.id > ?1 " +
+            "and not exists (select t.id from ItemTerm t where t.itemId = i.id) " +
+            "order by i.id")
+    List<ItemShortDto> findItemsWithoutTerms(long afterId, Pageable pageable);
 }
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.item.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ru.practicum.shareit.item.model.ItemTerm;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ItemTermRepository extends JpaRepository<ItemTerm, Long> {
+    @Query("select t.itemId " +
+            "from ItemTerm t, Item i " +
+            "where i.id = t.itemId " +
+            "and t.term in ?1 " +
+            "and i.available = true " +
+            "group by t.itemId " +
+            "having count(t.id) = ?2 " +
+            "order by sum(t.weight) desc, t.itemId")
+    List<Long> findAvailableItemIds(Collection<String> terms, long termCount, Pageable pageable);
+
+    boolean existsByItemId(long itemId);
+
+    @Modifying
+    @Query("delete from ItemTerm t where t.itemId = ?1")
+    void deleteByItemId(long itemId);
+}
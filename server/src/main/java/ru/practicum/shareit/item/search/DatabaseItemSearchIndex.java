@@ -0,0 +1,93 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.model.ItemTerm;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.repository.ItemTermRepository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "database", matchIfMissing = true)
+public class DatabaseItemSearchIndex implements ItemSearchIndex {
+    public static final int NAME_WEIGHT = 2;
+    public static final int DESCRIPTION_WEIGHT = 1;
+
+    private final ItemTermRepository itemTermRepository;
+    private final ItemRepository itemRepository;
+
+    @Autowired
+    public DatabaseItemSearchIndex(ItemTermRepository itemTermRepository, ItemRepository itemRepository) {
+        this.itemTermRepository = itemTermRepository;
+        this.itemRepository = itemRepository;
+    }
+
+    @EventListener
+    public void onItemSaved(ItemSavedEvent event) {
+        index(event.getItem());
+    }
+
+    @EventListener
+    public void onItemDeleted(ItemDeletedEvent event) {
+        remove(event.getItemId());
+    }
+
+    @Override
+    @Transactional
+    public void index(Item item) {
+        itemTermRepository.deleteByItemId(item.getId());
+        saveTerms(item.getId(), item.getName(), item.getDescription());
+    }
+
+    @Transactional
+    public int indexMissing(List<ItemShortDto> items) {
+        int indexed = 0;
+        for (ItemShortDto item : items) {
+            if (itemRepository.lockById(item.getId()).isPresent() && !itemTermRepository.existsByItemId(item.getId())) {
+                saveTerms(item.getId(), item.getName(), item.getDescription());
+                indexed++;
+            }
+        }
+        return indexed;
+    }
+
+    @Override
+    @Transactional
+    public void remove(long itemId) {
+        itemTermRepository.deleteByItemId(itemId);
+    }
+
+    @Override
+    public List<Long> search(String query, Pageable pageable) {
+        Set<String> terms = ItemTokenizer.searchTerms(query);
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return itemTermRepository.findAvailableItemIds(terms, terms.size(), pageable);
+    }
+
+    private void saveTerms(long itemId, String name, String description) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        ItemTokenizer.prefixes(description).forEach(term -> weights.put(term, DESCRIPTION_WEIGHT));
+        ItemTokenizer.prefixes(name).forEach(term -> weights.put(term, NAME_WEIGHT));
+
+        itemTermRepository.saveAll(
+                weights.entrySet().stream()
+                        .map(entry -> new ItemTerm(itemId, entry.getKey(), entry.getValue()))
+                        .collect(Collectors.toList()));
+    }
+}
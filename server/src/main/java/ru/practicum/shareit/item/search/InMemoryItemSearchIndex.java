@@ -0,0 +1,244 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "memory")
+public class InMemoryItemSearchIndex implements ItemSearchIndex, SmartInitializingSingleton {
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final long[] NO_IDS = new long[0];
+
+    private final ItemRepository itemRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final NavigableMap<String, LongPostingList> postings = new TreeMap<>();
+    private Set<Long> touchedDuringRebuild;
+
+    @Autowired
+    public InMemoryItemSearchIndex(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            touchedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long lastId = 0;
+            List<ItemShortDto> batch;
+            do {
+                batch = itemRepository.findItemsForIndexing(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                Map<Long, Document> loaded = new LinkedHashMap<>();
+                for (ItemShortDto item : batch) {
+                    loaded.put(item.getId(), new Document(item.getName(), item.getDescription(), item.isAvailable()));
+                    lastId = item.getId();
+                }
+                addLoaded(loaded);
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                touchedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        log.info("Item search index rebuilt, {} items indexed", size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemSaved(ItemSavedEvent event) {
+        index(event.getItem());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onItemDeleted(ItemDeletedEvent event) {
+        remove(event.getItemId());
+    }
+
+    @Override
+    public void index(Item item) {
+        Document document = new Document(item.getName(), item.getDescription(), item.isAvailable());
+
+        lock.writeLock().lock();
+        try {
+            touch(item.getId());
+            putDocument(item.getId(), document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long itemId) {
+        lock.writeLock().lock();
+        try {
+            touch(itemId);
+            removeDocument(itemId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String query, Pageable pageable) {
+        Set<String> terms = ItemTokenizer.searchTerms(query);
+        if (terms.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            long[] candidates = null;
+            for (String term : terms) {
+                long[] matches = findCandidates(term);
+                candidates = candidates == null ? matches : LongPostingList.intersect(candidates, matches);
+                if (candidates.length == 0) {
+                    return Collections.emptyList();
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(candidates.length);
+            for (long id : candidates) {
+                Document document = documents.get(id);
+                if (document.available) {
+                    matches.add(new Match(id, document.score(terms)));
+                }
+            }
+            return matches.stream()
+                    .sorted(Comparator.comparingInt(Match::getScore).reversed().thenComparingLong(Match::getId))
+                    .skip(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .map(Match::getId)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLoaded(Map<Long, Document> loaded) {
+        lock.writeLock().lock();
+        try {
+            loaded.forEach((id, document) -> {
+                if (!touchedDuringRebuild.contains(id)) {
+                    putDocument(id, document);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void touch(long id) {
+        if (touchedDuringRebuild != null) {
+            touchedDuringRebuild.add(id);
+        }
+    }
+
+    private void putDocument(long id, Document document) {
+        removeDocument(id);
+        documents.put(id, document);
+        for (String term : document.terms) {
+            postings.computeIfAbsent(term, key -> new LongPostingList()).add(id);
+        }
+    }
+
+    private void removeDocument(long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.terms) {
+            LongPostingList postingList = postings.get(term);
+            postingList.remove(id);
+            if (postingList.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private long[] findCandidates(String prefix) {
+        Collection<LongPostingList> matches = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values();
+        return matches.isEmpty() ? NO_IDS : LongPostingList.union(new ArrayList<>(matches));
+    }
+
+    private static class Document {
+        private final boolean available;
+        private final Set<String> nameTerms;
+        private final Set<String> terms;
+
+        Document(String name, String description, boolean available) {
+            this.available = available;
+            this.nameTerms = ItemTokenizer.tokenize(name);
+            this.terms = new HashSet<>(nameTerms);
+            this.terms.addAll(ItemTokenizer.tokenize(description));
+        }
+
+        int score(Set<String> prefixes) {
+            int score = 0;
+            for (String prefix : prefixes) {
+                boolean inName = nameTerms.stream().anyMatch(term -> term.startsWith(prefix));
+                score += inName ? DatabaseItemSearchIndex.NAME_WEIGHT : DatabaseItemSearchIndex.DESCRIPTION_WEIGHT;
+            }
+            return score;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Match {
+        private final long id;
+        private final int score;
+    }
+}
@@ -0,0 +1,8 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Data;
+
+@Data
+public class ItemDeletedEvent {
+    private final long itemId;
+}
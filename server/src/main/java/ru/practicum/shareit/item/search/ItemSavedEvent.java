@@ -0,0 +1,9 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.Data;
+import ru.practicum.shareit.item.model.Item;
+
+@Data
+public class ItemSavedEvent {
+    private final Item item;
+}
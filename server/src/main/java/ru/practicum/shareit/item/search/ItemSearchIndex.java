@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.search;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+public interface ItemSearchIndex {
+    void index(Item item);
+
+    void remove(long itemId);
+
+    List<Long> search(String query, Pageable pageable);
+}
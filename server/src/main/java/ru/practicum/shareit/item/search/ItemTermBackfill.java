@@ -0,0 +1,46 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "database", matchIfMissing = true)
+public class ItemTermBackfill implements SmartInitializingSingleton {
+    private static final int BATCH_SIZE = 500;
+
+    private final ItemRepository itemRepository;
+    private final DatabaseItemSearchIndex itemSearchIndex;
+
+    @Autowired
+    public ItemTermBackfill(ItemRepository itemRepository, DatabaseItemSearchIndex itemSearchIndex) {
+        this.itemRepository = itemRepository;
+        this.itemSearchIndex = itemSearchIndex;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long lastId = 0;
+        int indexed = 0;
+        List<ItemShortDto> batch;
+        do {
+            batch = itemRepository.findItemsWithoutTerms(lastId, PageRequest.of(0, BATCH_SIZE));
+            if (!batch.isEmpty()) {
+                indexed += itemSearchIndex.indexMissing(batch);
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        if (indexed > 0) {
+            log.info("Item search terms backfilled for {} items", indexed);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ItemTokenizer {
+    public static final int MAX_PREFIX_LENGTH = 20;
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    public static Set<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptySet();
+        }
+
+        return Arrays.stream(SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public static Set<String> prefixes(String text) {
+        Set<String> prefixes = new LinkedHashSet<>();
+
+        for (String token : tokenize(text)) {
+            int length = Math.min(token.length(), MAX_PREFIX_LENGTH);
+            for (int i = 1; i <= length; i++) {
+                prefixes.add(token.substring(0, i));
+            }
+        }
+
+        return prefixes;
+    }
+
+    public static Set<String> searchTerms(String query) {
+        return tokenize(query).stream()
+                .map(token -> token.length() > MAX_PREFIX_LENGTH ? token.substring(0, MAX_PREFIX_LENGTH) : token)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,117 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+class LongPostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void add(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            return;
+        }
+
+        position = -position - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        ids[position] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return;
+        }
+
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    static long[] union(List<LongPostingList> lists) {
+        if (lists.size() == 1) {
+            return lists.get(0).toArray();
+        }
+
+        int total = 0;
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(lists.size());
+        for (LongPostingList list : lists) {
+            if (!list.isEmpty()) {
+                heap.add(new Cursor(list));
+                total += list.size;
+            }
+        }
+
+        long[] result = new long[total];
+        int k = 0;
+        while (!heap.isEmpty()) {
+            Cursor cursor = heap.poll();
+            long id = cursor.current();
+            if (k == 0 || result[k - 1] != id) {
+                result[k++] = id;
+            }
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+
+        return Arrays.copyOf(result, k);
+    }
+
+    static long[] intersect(long[] first, long[] second) {
+        long[] result = new long[Math.min(first.length, second.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[k++] = first[i++];
+                j++;
+            }
+        }
+
+        return Arrays.copyOf(result, k);
+    }
+
+    private static class Cursor implements Comparable<Cursor> {
+        private final LongPostingList list;
+        private int position;
+
+        Cursor(LongPostingList list) {
+            this.list = list;
+        }
+
+        long current() {
+            return list.ids[position];
+        }
+
+        boolean advance() {
+            return ++position < list.size;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return Long.compare(current(), other.current());
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package ru.practicum.shareit.item.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.ItemUnavailableException;
@@ -19,14 +22,23 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemDeletedEvent;
+import ru.practicum.shareit.item.search.ItemSavedEvent;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.pagination.FromSizeRequest;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.requests.model.ItemRequest;
 import ru.practicum.shareit.requests.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceCache;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.exception.UnitNotFoundException.unitNotFoundException;
@@ -34,39 +46,54 @@ import static ru.practicum.shareit.exception.UnitNotFoundException.unitNotFoundE
 @Service
 @Transactional(readOnly = true)
 public class ItemService {
+    private static final Sort SORT_BY_ID = Sort.by(Sort.Direction.ASC, "id");
+
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final UserExistenceCache userExistenceCache;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public ItemService(ItemRepository itemRepository,
                        UserRepository userRepository,
+                       UserExistenceCache userExistenceCache,
                        BookingRepository bookingRepository,
                        CommentRepository commentRepository,
-                       ItemRequestRepository itemRequestRepository) {
+                       ItemRequestRepository itemRequestRepository,
+                       ItemSearchIndex itemSearchIndex,
+                       ApplicationEventPublisher eventPublisher) {
         this.itemRepository = itemRepository;
         this.userRepository = userRepository;
+        this.userExistenceCache = userExistenceCache;
         this.bookingRepository = bookingRepository;
         this.commentRepository = commentRepository;
         this.itemRequestRepository = itemRequestRepository;
+        this.itemSearchIndex = itemSearchIndex;
+        this.eventPublisher = eventPublisher;
     }
 
-    public List<ItemResponseDto> getItemsByUserId(long userId, int from, int size) {
-        getUserById(userId);
-        return itemRepository
-                .findItemsByOwner_Id(userId, PageRequest.of(from / size, size, Sort.by(Sort.Direction.ASC, "id")))
-                .stream()
-                .peek(item -> addBookings(item, userId))
-                .map(ItemMapper::itemToDto)
-                .collect(Collectors.toList());
+    public List<ItemResponseDto> getItemsByUserId(long userId, int from, int size, String cursor) {
+        userExistenceCache.checkExists(userId);
+        List<Item> items;
+        if (cursor != null) {
+            items = itemRepository.findItemsByOwner_IdAndIdGreaterThan(userId,
+                    PageCursor.decode(cursor).getId(),
+                    FromSizeRequest.of(0, size, SORT_BY_ID));
+        } else {
+            items = itemRepository.findItemsByOwner_Id(userId, FromSizeRequest.of(from, size, SORT_BY_ID));
+        }
+        addBookings(items, userId);
+        return itemsToDto(items);
     }
 
     public ItemResponseDto getItem(long userId, long itemId) {
-        Item item = getItemById(itemId);
+        Item item = getItemWithOwnerById(itemId);
         addBookings(item, userId);
-        return ItemMapper.itemToDto(item);
+        return itemsToDto(List.of(item)).get(0);
     }
 
     @Transactional
@@ -74,13 +101,16 @@ public class ItemService {
         User owner = getUserById(userId);
         Item item = ItemMapper.dtoToItem(itemRequestDto, getItemRequestById(itemRequestDto.getRequestId()));
         item.setOwner(owner);
-        return ItemMapper.itemToDto(itemRepository.save(item));
+
+        Item savedItem = itemRepository.save(item);
+        eventPublisher.publishEvent(new ItemSavedEvent(savedItem));
+        return ItemMapper.itemToDto(savedItem);
     }
 
     @Transactional
     public ItemResponseDto updateItem(long userId, long itemId, ItemRequestDto itemRequestDto) {
-        getUserById(userId);
-        Item itemToUpdate = getItemById(itemId);
+        userExistenceCache.checkExists(userId);
+        Item itemToUpdate = getItemWithOwnerById(itemId);
         Item item = ItemMapper.dtoToItem(itemRequestDto, getItemRequestById(itemRequestDto.getRequestId()));
 
         if (!checkOwner(userId, itemToUpdate)) {
@@ -101,6 +131,7 @@ public class ItemService {
             itemToUpdate.setRequest(item.getRequest());
         }
 
+        eventPublisher.publishEvent(new ItemSavedEvent(itemToUpdate));
         return ItemMapper.itemToDto(itemToUpdate);
     }
 
@@ -108,6 +139,7 @@ public class ItemService {
     public void deleteItem(long itemId) {
         Item item = getItemById(itemId);
         itemRepository.delete(item);
+        eventPublisher.publishEvent(new ItemDeletedEvent(item.getId()));
     }
 
     public List<ItemResponseDto> searchItem(String query, int from, int size) {
@@ -115,11 +147,19 @@ public class ItemService {
             return Collections.emptyList();
         }
 
-        return itemRepository
-                .searchItems(query, PageRequest.of(from / size, size, Sort.by(Sort.Direction.ASC, "id")))
-                .stream()
-                .map(ItemMapper::itemToDto)
-                .collect(Collectors.toList());
+        List<Long> itemIds = itemSearchIndex.search(query, FromSizeRequest.of(from, size));
+
+        if (itemIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Item> items = itemRepository.findItemsByIdIn(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        return itemsToDto(itemIds.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
     }
 
     @Transactional
@@ -128,9 +168,8 @@ public class ItemService {
         User user = getUserById(userId);
         Comment comment = CommentMapper.dtoToComment(commentRequestDto);
 
-        if (user.getBookings().stream().noneMatch(booking -> booking.getItem().equals(item)
-                && booking.getStatus().equals(BookingStatus.APPROVED)
-                && booking.getStart().isBefore(LocalDateTime.now()))) {
+        if (!bookingRepository.existsByBooker_IdAndItem_IdAndStatusAndStartBefore(
+                userId, itemId, BookingStatus.APPROVED, LocalDateTime.now())) {
             throw new ItemUnavailableException(
                     String.format("Пользователь с id = %d не может оставить комментарий к вещи с id = %d, так как еще не бронировал ее",
                             userId,
@@ -145,27 +184,64 @@ public class ItemService {
 
     public void addBookings(Item item, long userId) {
         if (item.getBookings() != null && item.getOwner().getId() == userId) {
+            LocalDateTime now = LocalDateTime.now();
+            Pageable first = PageRequest.of(0, 1);
 
             item.setLastBooking(
                     bookingRepository
-                            .findBookingsByItem_IdAndStartIsBeforeAndStatus(item.getId(),
-                                    LocalDateTime.now(),
-                                    BookingStatus.APPROVED,
-                                    Sort.by(Sort.Direction.DESC, "start")).stream()
+                            .findLastBookingsByItemId(item.getId(), now, BookingStatus.APPROVED, first).stream()
                             .findFirst()
                             .orElse(null));
 
             item.setNextBooking(
                     bookingRepository
-                            .findBookingsByItem_IdAndStartIsAfterAndStatus(item.getId(),
-                                    LocalDateTime.now(),
-                                    BookingStatus.APPROVED,
-                                    Sort.by(Sort.Direction.ASC, "start")).stream()
+                            .findNextBookingsByItemId(item.getId(), now, BookingStatus.APPROVED, first).stream()
                             .findFirst()
                             .orElse(null));
         }
     }
 
+    public void addBookings(List<Item> items, long userId) {
+        Map<Long, Item> ownItems = items.stream()
+                .filter(item -> item.getBookings() != null && item.getOwner().getId() == userId)
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        if (ownItems.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingShortDto> bookings = bookingRepository
+                .findLastAndNextBookingsByItemIds(ownItems.keySet(), now, BookingStatus.APPROVED);
+
+        for (BookingShortDto booking : bookings) {
+            Item item = ownItems.get(booking.getItemId());
+
+            if (booking.getStart().isBefore(now)) {
+                if (item.getLastBooking() == null || booking.getStart().isAfter(item.getLastBooking().getStart())) {
+                    item.setLastBooking(booking);
+                }
+            } else if (item.getNextBooking() == null || booking.getStart().isBefore(item.getNextBooking().getStart())) {
+                item.setNextBooking(booking);
+            }
+        }
+    }
+
+    private List<ItemResponseDto> itemsToDto(List<Item> items) {
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, List<Comment>> comments = commentRepository
+                .findCommentsByItem_IdInOrderByIdAsc(items.stream().map(Item::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId()));
+
+        return items.stream()
+                .map(item -> ItemMapper.itemToDto(item, comments.getOrDefault(item.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
     private boolean checkOwner(long userId, Item item) {
         return item.getOwner().getId() == userId;
     }
@@ -182,6 +258,12 @@ public class ItemService {
                 .orElseThrow(unitNotFoundException("Вещь с id = {0} не найдена", itemId));
     }
 
+    private Item getItemWithOwnerById(long itemId) {
+        return itemRepository
+                .findWithOwnerById(itemId)
+                .orElseThrow(unitNotFoundException("Вещь с id = {0} не найдена", itemId));
+    }
+
     private ItemRequest getItemRequestById(Long itemRequestId) {
         if (itemRequestId != null) {
             return itemRequestRepository.findById(itemRequestId).orElse(null);
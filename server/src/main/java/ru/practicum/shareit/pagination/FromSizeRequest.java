@@ -0,0 +1,28 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.EqualsAndHashCode;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@EqualsAndHashCode(callSuper = true)
+public class FromSizeRequest extends PageRequest {
+    private final long from;
+
+    protected FromSizeRequest(long from, int size, Sort sort) {
+        super((int) (from / size), size, sort);
+        this.from = from;
+    }
+
+    public static FromSizeRequest of(long from, int size, Sort sort) {
+        return new FromSizeRequest(from, size, sort);
+    }
+
+    public static FromSizeRequest of(long from, int size) {
+        return of(from, size, Sort.unsorted());
+    }
+
+    @Override
+    public long getOffset() {
+        return from;
+    }
+}
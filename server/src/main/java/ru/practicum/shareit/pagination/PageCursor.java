@@ -0,0 +1,65 @@
+package ru.practicum.shareit.pagination;
+
+import lombok.Data;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.exception.WrongCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+public class PageCursor {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime position;
+    private final long id;
+
+    public static PageCursor of(long id) {
+        return new PageCursor(null, id);
+    }
+
+    public static PageCursor of(LocalDateTime position, long id) {
+        return new PageCursor(position, id);
+    }
+
+    public static PageCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+
+            if (separator < 0) {
+                return of(Long.parseLong(value));
+            }
+            return of(LocalDateTime.parse(value.substring(0, separator)), Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new WrongCursorException("Некорректный курсор: " + cursor);
+        }
+    }
+
+    public static PageCursor decodeWithPosition(String cursor) {
+        PageCursor pageCursor = decode(cursor);
+        if (pageCursor.getPosition() == null) {
+            throw new WrongCursorException("Некорректный курсор: " + cursor);
+        }
+        return pageCursor;
+    }
+
+    public String encode() {
+        String value = position == null ? String.valueOf(id) : position + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T> ResponseEntity<List<T>> withNextCursor(List<T> page, int size, Function<T, PageCursor> cursor) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!page.isEmpty() && page.size() == size) {
+            response.header(NEXT_CURSOR_HEADER, cursor.apply(page.get(page.size() - 1)).encode());
+        }
+        return response.body(page);
+    }
+}
@@ -1,7 +1,9 @@
 package ru.practicum.shareit.requests.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.requests.dto.ItemReqRequestDto;
 import ru.practicum.shareit.requests.dto.ItemReqResponseDto;
 import ru.practicum.shareit.requests.service.ItemRequestService;
@@ -30,10 +32,12 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public List<ItemReqResponseDto> getItemRequests(@RequestHeader("X-Sharer-User-Id") long userId,
-                                                    @RequestParam int from,
-                                                    @RequestParam int size) {
-        return itemRequestService.getItemRequests(userId, from, size);
+    public ResponseEntity<List<ItemReqResponseDto>> getItemRequests(@RequestHeader("X-Sharer-User-Id") long userId,
+                                                                    @RequestParam int from,
+                                                                    @RequestParam int size,
+                                                                    @RequestParam(required = false) String cursor) {
+        return PageCursor.withNextCursor(itemRequestService.getItemRequests(userId, from, size, cursor), size,
+                itemRequest -> PageCursor.of(itemRequest.getCreated(), itemRequest.getId()));
     }
 
     @PostMapping
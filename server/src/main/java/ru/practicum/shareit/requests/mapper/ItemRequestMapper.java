@@ -2,10 +2,12 @@ package ru.practicum.shareit.requests.mapper;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.requests.dto.ItemReqRequestDto;
 import ru.practicum.shareit.requests.dto.ItemReqResponseDto;
 import ru.practicum.shareit.requests.model.ItemRequest;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -18,15 +20,19 @@ public class ItemRequestMapper {
     }
 
     public static ItemReqResponseDto itemRequestToDto(ItemRequest itemRequest) {
+        return itemRequestToDto(itemRequest, itemRequest.getItems());
+    }
+
+    public static ItemReqResponseDto itemRequestToDto(ItemRequest itemRequest, List<Item> items) {
         ItemReqResponseDto itemRequestDto = new ItemReqResponseDto();
 
         itemRequestDto.setId(itemRequest.getId());
         itemRequestDto.setDescription(itemRequest.getDescription());
         itemRequestDto.setCreated(itemRequest.getCreated());
 
-        if (itemRequest.getItems() != null) {
+        if (items != null) {
             itemRequestDto.setItems(
-                    itemRequest.getItems().stream()
+                    items.stream()
                             .map(item -> new ItemReqResponseDto.Item(item.getId(),
                                     item.getName(),
                                     item.getDescription(),
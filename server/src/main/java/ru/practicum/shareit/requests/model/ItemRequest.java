@@ -2,6 +2,8 @@ package ru.practicum.shareit.requests.model;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
@@ -12,6 +14,7 @@ import java.util.List;
 @Setter
 @Getter
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "requests")
 @Table(name = "requests")
 public class ItemRequest {
     @Id
@@ -27,6 +30,7 @@ public class ItemRequest {
     private User requestor;
 
     @OneToMany(mappedBy = "request")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "requests.items")
     private List<Item> items;
     private LocalDateTime created = LocalDateTime.now();
 }
@@ -2,15 +2,31 @@ package ru.practicum.shareit.requests.repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ru.practicum.shareit.requests.model.ItemRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
+    @Override
+    @EntityGraph(attributePaths = "requestor")
+    Optional<ItemRequest> findById(Long itemRequestId);
+
+    @EntityGraph(attributePaths = "requestor")
     List<ItemRequest> findItemRequestsByRequestor_IdIsNot(long userId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "requestor")
     List<ItemRequest> findItemRequestsByRequestor_Id(long userId, Sort sort);
+
+    @EntityGraph(attributePaths = "requestor")
+    @Query("select r from ItemRequest r " +
+            "where r.requestor.id <> ?1 " +
+            "and (r.created < ?2 or (r.created = ?2 and r.id < ?3))")
+    List<ItemRequest> findItemRequestsCreatedBefore(long userId, LocalDateTime created, long requestId, Pageable pageable);
 }
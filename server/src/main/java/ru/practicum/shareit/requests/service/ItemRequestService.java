@@ -1,10 +1,13 @@
 package ru.practicum.shareit.requests.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.FromSizeRequest;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.requests.dto.ItemReqRequestDto;
 import ru.practicum.shareit.requests.dto.ItemReqResponseDto;
 import ru.practicum.shareit.requests.mapper.ItemRequestMapper;
@@ -12,8 +15,11 @@ import ru.practicum.shareit.requests.model.ItemRequest;
 import ru.practicum.shareit.requests.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceCache;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.exception.UnitNotFoundException.unitNotFoundException;
@@ -21,40 +27,52 @@ import static ru.practicum.shareit.exception.UnitNotFoundException.unitNotFoundE
 @Service
 @Transactional(readOnly = true)
 public class ItemRequestService {
+    private static final Sort SORT_BY_CREATED_DESC = Sort.by(Sort.Direction.DESC, "created", "id");
+
     private final ItemRequestRepository itemRequestRepository;
     private final UserRepository userRepository;
+    private final UserExistenceCache userExistenceCache;
+    private final ItemRepository itemRepository;
 
     @Autowired
     public ItemRequestService(ItemRequestRepository itemRequestRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              UserExistenceCache userExistenceCache,
+                              ItemRepository itemRepository) {
         this.itemRequestRepository = itemRequestRepository;
         this.userRepository = userRepository;
+        this.userExistenceCache = userExistenceCache;
+        this.itemRepository = itemRepository;
     }
 
     public ItemReqResponseDto getItemRequestById(long userId, long itemRequestId) {
-        getUserById(userId);
+        userExistenceCache.checkExists(userId);
         ItemRequest itemRequest = itemRequestRepository
                 .findById(itemRequestId)
                 .orElseThrow(unitNotFoundException("Запрос с id = {0} не найден", itemRequestId));
-        return ItemRequestMapper.itemRequestToDto(itemRequest);
+        return itemRequestsToDto(List.of(itemRequest)).get(0);
     }
 
     public List<ItemReqResponseDto> getItemRequestsByUser(long userId) {
-        getUserById(userId);
-        return itemRequestRepository
-                .findItemRequestsByRequestor_Id(userId, Sort.by(Sort.Direction.DESC, "created"))
-                .stream()
-                .map(ItemRequestMapper::itemRequestToDto)
-                .collect(Collectors.toList());
+        userExistenceCache.checkExists(userId);
+        return itemRequestsToDto(itemRequestRepository
+                .findItemRequestsByRequestor_Id(userId, Sort.by(Sort.Direction.DESC, "created")));
     }
 
-    public List<ItemReqResponseDto> getItemRequests(long userId, int from, int size) {
-        getUserById(userId);
-        return itemRequestRepository
-                .findItemRequestsByRequestor_IdIsNot(userId, PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "created")))
-                .stream()
-                .map(ItemRequestMapper::itemRequestToDto)
-                .collect(Collectors.toList());
+    public List<ItemReqResponseDto> getItemRequests(long userId, int from, int size, String cursor) {
+        userExistenceCache.checkExists(userId);
+        List<ItemRequest> itemRequests;
+        if (cursor != null) {
+            PageCursor pageCursor = PageCursor.decodeWithPosition(cursor);
+            itemRequests = itemRequestRepository.findItemRequestsCreatedBefore(userId,
+                    pageCursor.getPosition(),
+                    pageCursor.getId(),
+                    FromSizeRequest.of(0, size, SORT_BY_CREATED_DESC));
+        } else {
+            itemRequests = itemRequestRepository
+                    .findItemRequestsByRequestor_IdIsNot(userId, FromSizeRequest.of(from, size, SORT_BY_CREATED_DESC));
+        }
+        return itemRequestsToDto(itemRequests);
     }
 
     @Transactional
@@ -65,6 +83,22 @@ public class ItemRequestService {
         return ItemRequestMapper.itemRequestToDto(itemRequestRepository.save(itemRequest));
     }
 
+    private List<ItemReqResponseDto> itemRequestsToDto(List<ItemRequest> itemRequests) {
+        if (itemRequests.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, List<Item>> items = itemRepository
+                .findItemsByRequest_IdIn(itemRequests.stream().map(ItemRequest::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(item -> item.getRequest().getId()));
+
+        return itemRequests.stream()
+                .map(itemRequest -> ItemRequestMapper.itemRequestToDto(itemRequest,
+                        items.getOrDefault(itemRequest.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
     private User getUserById(long userId) {
         return userRepository
                 .findById(userId)
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.user.service;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+@Component
+public class CascadeCacheEvictor {
+    private static final List<String> USER_DEPENDENT_REGIONS =
+            List.of("items", "requests", "comments", "items.comments", "requests.items");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public CascadeCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void evictUserDependents() {
+        evictRegions();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictRegions();
+                }
+            });
+        }
+    }
+
+    private void evictRegions() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        USER_DEPENDENT_REGIONS.forEach(cache::evictRegion);
+    }
+}
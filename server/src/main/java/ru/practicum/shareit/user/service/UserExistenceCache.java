@@ -0,0 +1,104 @@
+package ru.practicum.shareit.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static ru.practicum.shareit.exception.UnitNotFoundException.unitNotFoundException;
+
+@Component
+public class UserExistenceCache {
+    private static final String METRIC_NAME = "shareit.users.cache";
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final Cache<Long, Boolean> knownUsers;
+    private final AtomicLong evictions = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserExistenceCache(UserRepository userRepository, MeterRegistry meterRegistry, int maxSize) {
+        this(userRepository, meterRegistry, maxSize, false);
+    }
+
+    @Autowired
+    public UserExistenceCache(UserRepository userRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${shareit.users.cache.max-size:10000}") int maxSize,
+                              @Value("${shareit.multi-instance:false}") boolean multiInstance) {
+        this.userRepository = userRepository;
+        this.enabled = !multiInstance;
+        this.knownUsers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .executor(Runnable::run)
+                .build();
+        this.hits = Counter.builder(METRIC_NAME + ".requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME + ".requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", this, UserExistenceCache::size)
+                .register(meterRegistry);
+    }
+
+    public void checkExists(long userId) {
+        if (knownUsers.getIfPresent(userId) != null) {
+            hits.increment();
+            return;
+        }
+
+        misses.increment();
+        long generation = evictions.get();
+        userRepository
+                .findById(userId)
+                .orElseThrow(unitNotFoundException("Пользователь с id = {0} не найден", userId));
+        add(userId, generation);
+    }
+
+    public void add(long userId) {
+        add(userId, evictions.get());
+    }
+
+    public void evict(long userId) {
+        invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(userId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return (int) knownUsers.estimatedSize();
+    }
+
+    private void add(long userId, long generation) {
+        if (!enabled) {
+            return;
+        }
+        knownUsers.put(userId, Boolean.TRUE);
+        if (evictions.get() != generation) {
+            knownUsers.invalidate(userId);
+        }
+    }
+
+    private void invalidate(long userId) {
+        evictions.incrementAndGet();
+        knownUsers.invalidate(userId);
+    }
+}
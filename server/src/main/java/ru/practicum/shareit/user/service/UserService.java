@@ -17,10 +17,16 @@ import static ru.practicum.shareit.exception.UnitNotFoundException.unitNotFoundE
 @Transactional(readOnly = true)
 public class UserService {
     private final UserRepository userRepository;
+    private final UserExistenceCache userExistenceCache;
+    private final CascadeCacheEvictor cascadeCacheEvictor;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository,
+                       UserExistenceCache userExistenceCache,
+                       CascadeCacheEvictor cascadeCacheEvictor) {
         this.userRepository = userRepository;
+        this.userExistenceCache = userExistenceCache;
+        this.cascadeCacheEvictor = cascadeCacheEvictor;
     }
 
     public List<UserDto> getUsers() {
@@ -57,6 +63,8 @@ public class UserService {
     public void deleteUser(long userId) {
         User user = getUserById(userId);
         userRepository.delete(user);
+        userExistenceCache.evict(userId);
+        cascadeCacheEvictor.evictUserDependents();
     }
 
     private User getUserById(long userId) {
@@ -1,9 +1,3 @@
-DROP TABLE IF EXISTS comments;
-DROP TABLE IF EXISTS bookings;
-DROP TABLE IF EXISTS items;
-DROP TABLE IF EXISTS requests;
-DROP TABLE IF EXISTS users;
-
 CREATE TABLE IF NOT EXISTS users
 (
     user_id
@@ -135,4 +129,33 @@ CREATE TABLE IF NOT EXISTS comments
   ON DELETE CASCADE NOT NULL,
     created_at TIMESTAMP
   WITHOUT TIME ZONE NOT NULL
-    );
\ No newline at end of file
+    );
+
+CREATE SEQUENCE IF NOT EXISTS item_terms_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS item_terms
+(
+    term_id BIGINT PRIMARY KEY,
+    item_id BIGINT NOT NULL REFERENCES items (item_id) ON DELETE CASCADE,
+    term    VARCHAR(255) NOT NULL,
+    weight  INT NOT NULL,
+    CONSTRAINT item_terms_term_item_uq UNIQUE (term, item_id)
+);
+
+CREATE INDEX IF NOT EXISTS bookings_booker_start_idx ON bookings (booker_id, start_date DESC);
+CREATE INDEX IF NOT EXISTS bookings_booker_status_start_idx ON bookings (booker_id, status, start_date DESC);
+CREATE INDEX IF NOT EXISTS bookings_booker_item_status_start_idx ON bookings (booker_id, item_id, status, start_date);
+CREATE INDEX IF NOT EXISTS bookings_item_status_start_idx ON bookings (item_id, status, start_date);
+CREATE INDEX IF NOT EXISTS bookings_item_status_end_idx ON bookings (item_id, status, end_date);
+CREATE INDEX IF NOT EXISTS bookings_item_start_idx ON bookings (item_id, start_date DESC);
+
+CREATE INDEX IF NOT EXISTS items_owner_idx ON items (owner_id, item_id);
+CREATE INDEX IF NOT EXISTS items_request_idx ON items (request_id);
+
+CREATE INDEX IF NOT EXISTS requests_requestor_created_idx ON requests (requestor_id, created DESC);
+CREATE INDEX IF NOT EXISTS requests_created_idx ON requests (created DESC);
+
+CREATE INDEX IF NOT EXISTS comments_item_idx ON comments (item_id);
+CREATE INDEX IF NOT EXISTS comments_author_idx ON comments (author_id);
+
+CREATE INDEX IF NOT EXISTS item_terms_item_idx ON item_terms (item_id);
@@ -0,0 +1,25 @@
+package ru.practicum.shareit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+@SpringBootTest(properties = "spring.config.location=file:src/main/resources/application.properties")
+public class MainPropertiesTest {
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void mainPropertiesBind() {
+        assertThat(dataSource, instanceOf(HikariDataSource.class));
+        assertThat(((HikariDataSource) dataSource).getConnectionTimeout(), equalTo(5000L));
+        assertThat(((HikariDataSource) dataSource).getConnectionInitSql(), equalTo("SET LOCK_TIMEOUT 5000"));
+    }
+}
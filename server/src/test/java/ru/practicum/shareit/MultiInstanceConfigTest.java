@@ -0,0 +1,38 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import ru.practicum.shareit.config.MultiInstanceConfig;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+public class MultiInstanceConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withPropertyValues("shareit.multi-instance=true")
+            .withUserConfiguration(MultiInstanceConfig.class);
+
+    @Test
+    void startsWithDatabaseBackedState() {
+        contextRunner
+                .withPropertyValues("shareit.search.engine=database")
+                .run(context -> assertThat(context.getStartupFailure() == null, equalTo(true)));
+    }
+
+    @Test
+    void inMemorySearchIndexIsRejected() {
+        contextRunner
+                .withPropertyValues("shareit.search.engine=memory")
+                .run(context -> assertThat(context.getStartupFailure().getMessage(),
+                        containsString("shareit.search.engine=memory")));
+    }
+
+    @Test
+    void secondLevelCacheIsRejected() {
+        contextRunner
+                .withPropertyValues("spring.jpa.properties.hibernate.cache.use_second_level_cache=true")
+                .run(context -> assertThat(context.getStartupFailure().getMessage(),
+                        containsString("use_second_level_cache=true")));
+    }
+}
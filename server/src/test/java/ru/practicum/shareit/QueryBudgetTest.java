@@ -0,0 +1,123 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemRequestDto;
+import ru.practicum.shareit.item.dto.ItemResponseDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.requests.dto.ItemReqRequestDto;
+import ru.practicum.shareit.requests.dto.ItemReqResponseDto;
+import ru.practicum.shareit.requests.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@SpringBootTest(properties = StatementRecorder.PROPERTY)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public abstract class QueryBudgetTest {
+    protected static final int ITEMS = 4;
+    protected static final int COMMENTERS_PER_ITEM = 3;
+
+    @Autowired
+    protected UserService userService;
+
+    @Autowired
+    protected ItemService itemService;
+
+    @Autowired
+    protected BookingService bookingService;
+
+    @Autowired
+    protected ItemRequestService itemRequestService;
+
+    protected UserDto owner;
+    protected UserDto booker;
+    protected UserDto requestor;
+    protected final List<UserDto> requestors = new ArrayList<>();
+    protected final List<UserDto> commenters = new ArrayList<>();
+    protected final List<ItemReqResponseDto> itemRequests = new ArrayList<>();
+    protected final List<ItemResponseDto> items = new ArrayList<>();
+    protected final List<BookingResponseDto> bookings = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        owner = createUser("owner");
+        booker = createUser("booker");
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ITEMS; i++) {
+            UserDto itemRequestor = createUser("requestor" + i);
+            requestors.add(itemRequestor);
+            ItemReqRequestDto itemReqRequestDto = new ItemReqRequestDto();
+            itemReqRequestDto.setDescription("Нужна дрель " + i);
+            ItemReqResponseDto itemRequest =
+                    itemRequestService.createItemRequest(itemRequestor.getId(), itemReqRequestDto);
+            itemRequests.add(itemRequest);
+
+            ItemRequestDto itemRequestDto = new ItemRequestDto();
+            itemRequestDto.setName("Дрель " + i);
+            itemRequestDto.setDescription("Ударная дрель номер " + i);
+            itemRequestDto.setAvailable(true);
+            itemRequestDto.setRequestId(itemRequest.getId());
+            ItemResponseDto item = itemService.createItem(owner.getId(), itemRequestDto);
+            items.add(item);
+
+            bookings.add(book(booker, item, now.minusDays(3), true));
+            bookings.add(book(booker, item, now.minusHours(1), true));
+            bookings.add(book(booker, item, now.plusDays(2), false));
+
+            for (int j = 0; j < COMMENTERS_PER_ITEM; j++) {
+                UserDto commenter = createUser("commenter" + i + "_" + j);
+                commenters.add(commenter);
+                book(commenter, item, now.minusDays(5 + 2L * j), true);
+                CommentRequestDto commentRequestDto = new CommentRequestDto();
+                commentRequestDto.setText("Отличная дрель");
+                itemService.addComment(commenter.getId(), item.getId(), commentRequestDto);
+            }
+        }
+        requestor = requestors.get(0);
+    }
+
+    protected static void assertBudget(Collection<String> statements, int budget) {
+        assertThat(statements, hasSize(lessThanOrEqualTo(budget)));
+    }
+
+    protected static void assertBudget(Runnable call, int budget) {
+        assertBudget(StatementRecorder.recordStatements(call), budget);
+    }
+
+    protected UserDto createUser(String name) {
+        UserDto userDto = new UserDto();
+        userDto.setName(name);
+        userDto.setEmail(name + "@test.com");
+        return userService.createUser(userDto);
+    }
+
+    private BookingResponseDto book(UserDto user, ItemResponseDto item, LocalDateTime start, boolean approve) {
+        BookingRequestDto bookingRequestDto = new BookingRequestDto();
+        bookingRequestDto.setItemId(item.getId());
+        bookingRequestDto.setStart(start);
+        bookingRequestDto.setEnd(start.plusDays(1));
+        BookingResponseDto booking = bookingService.createBooking(user.getId(), bookingRequestDto);
+        if (approve) {
+            booking = bookingService.changeStatus(owner.getId(), booking.getId(), true);
+        }
+        return booking;
+    }
+}
@@ -0,0 +1,143 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsStringIgnoringCase;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
+
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+public class SchemaIndexTest {
+    private static final int USERS = 50;
+    private static final int ITEMS_PER_USER = 10;
+    private static final int BOOKINGS_PER_ITEM = 5;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> requests = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        List<Object[]> bookings = new ArrayList<>();
+        List<Object[]> comments = new ArrayList<>();
+
+        for (long userId = 1; userId <= USERS; userId++) {
+            users.add(new Object[]{userId, "User " + userId, "user" + userId + "@test.com"});
+            requests.add(new Object[]{userId, "Request " + userId, userId, Timestamp.valueOf(now.minusHours(userId))});
+        }
+
+        long bookingId = 1;
+        for (long itemId = 1; itemId <= USERS * ITEMS_PER_USER; itemId++) {
+            long ownerId = (itemId - 1) / ITEMS_PER_USER + 1;
+            items.add(new Object[]{itemId, "Item " + itemId, "Description " + itemId, true, ownerId, ownerId});
+            comments.add(new Object[]{itemId, "Comment " + itemId, ownerId % USERS + 1, itemId, Timestamp.valueOf(now)});
+
+            for (int i = 0; i < BOOKINGS_PER_ITEM; i++) {
+                LocalDateTime start = now.plusDays(i - 2);
+                bookings.add(new Object[]{bookingId++, itemId, (ownerId + i) % USERS + 1,
+                        Timestamp.valueOf(start), Timestamp.valueOf(start.plusDays(1)), "APPROVED"});
+            }
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO users (user_id, name, email) VALUES (?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("INSERT INTO requests (request_id, description, requestor_id, created) VALUES (?, ?, ?, ?)", requests);
+        jdbcTemplate.batchUpdate("INSERT INTO items (item_id, name, description, available, owner_id, request_id) VALUES (?, ?, ?, ?, ?, ?)", items);
+        jdbcTemplate.batchUpdate("INSERT INTO bookings (booking_id, item_id, booker_id, start_date, end_date, status) VALUES (?, ?, ?, ?, ?, ?)", bookings);
+        jdbcTemplate.batchUpdate("INSERT INTO comments (comment_id, text, author_id, item_id, created_at) VALUES (?, ?, ?, ?, ?)", comments);
+    }
+
+    @Test
+    void managedIndexesExist() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes WHERE table_schema = 'PUBLIC'",
+                String.class);
+
+        assertThat(indexes, hasItems(
+                "bookings_booker_start_idx",
+                "bookings_booker_status_start_idx",
+                "bookings_booker_item_status_start_idx",
+                "bookings_item_status_start_idx",
+                "bookings_item_status_end_idx",
+                "bookings_item_start_idx",
+                "items_owner_idx",
+                "items_request_idx",
+                "requests_requestor_created_idx",
+                "requests_created_idx",
+                "comments_item_idx",
+                "comments_author_idx"));
+    }
+
+    @Test
+    void bookingsByBookerUseIndex() {
+        assertIndexScan("SELECT * FROM bookings WHERE booker_id = 1 ORDER BY start_date DESC");
+    }
+
+    @Test
+    void bookingsByBookerAndStatusUseIndex() {
+        assertIndexScan("SELECT * FROM bookings WHERE booker_id = 1 AND status = 'WAITING' ORDER BY start_date DESC");
+    }
+
+    @Test
+    void commentEligibilityUsesIndex() {
+        assertIndexScan("SELECT booking_id FROM bookings " +
+                        "WHERE booker_id = 1 AND item_id = 1 AND status = 'APPROVED' AND start_date < CURRENT_TIMESTAMP " +
+                        "LIMIT 1");
+    }
+
+    @Test
+    void lastBookingOfItemUsesIndex() {
+        assertIndexScan("SELECT booking_id, booker_id FROM bookings " +
+                        "WHERE item_id = 1 AND status = 'APPROVED' AND start_date < CURRENT_TIMESTAMP " +
+                        "ORDER BY start_date DESC LIMIT 1");
+    }
+
+    @Test
+    void bookingsByItemOwnerUseIndex() {
+        assertIndexScan("SELECT b.* FROM bookings b JOIN items i ON b.item_id = i.item_id " +
+                        "WHERE i.owner_id = 1 ORDER BY b.start_date DESC");
+    }
+
+    @Test
+    void itemsByOwnerUseIndex() {
+        assertIndexScan("SELECT * FROM items WHERE owner_id = 1 ORDER BY item_id");
+    }
+
+    @Test
+    void requestsOfOtherUsersUseIndex() {
+        assertIndexScan("SELECT * FROM requests WHERE requestor_id <> 1 ORDER BY created DESC LIMIT 10");
+    }
+
+    @Test
+    void itemsByRequestUseIndex() {
+        assertIndexScan("SELECT * FROM items WHERE request_id = 1");
+    }
+
+    @Test
+    void requestsByRequestorUseIndex() {
+        assertIndexScan("SELECT * FROM requests WHERE requestor_id = 1 ORDER BY created DESC");
+    }
+
+    @Test
+    void commentsByItemUseIndex() {
+        assertIndexScan("SELECT * FROM comments WHERE item_id = 1");
+    }
+
+    private void assertIndexScan(String query) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + query, String.class);
+
+        assertThat(plan, not(containsStringIgnoringCase("tableScan")));
+    }
+}
@@ -0,0 +1,184 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.requests.model.ItemRequest;
+import ru.practicum.shareit.requests.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class SecondLevelCacheTest {
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void repeatedUserLookupsAreServedFromCache() {
+        UserDto user = userService.createUser(createUserDto("User", "user@test.com"));
+        userService.getUser(user.getId());
+        statistics.clear();
+
+        userService.getUser(user.getId());
+        userService.getUser(user.getId());
+
+        CacheRegionStatistics users = statistics.getDomainDataRegionStatistics("users");
+        assertThat(users.getHitCount(), equalTo(2L));
+        assertThat(users.getMissCount(), equalTo(0L));
+        assertThat(statistics.getPrepareStatementCount(), equalTo(0L));
+    }
+
+    @Test
+    void updatedUserIsNotServedStale() {
+        UserDto user = userService.createUser(createUserDto("User", "user@test.com"));
+        userService.getUser(user.getId());
+
+        userService.updateUser(user.getId(), createUserDto("Updated", null));
+
+        assertThat(userService.getUser(user.getId()).getName(), equalTo("Updated"));
+    }
+
+    @Test
+    void itemCommentsAreCachedAndEvictedOnNewComment() {
+        User author = userRepository.save(createUser("Author", "author@test.com"));
+        Item item = itemRepository.save(createItem(author));
+        commentRepository.save(createComment(item, author));
+        statistics.clear();
+
+        assertThat(countComments(item.getId()), equalTo(1));
+        assertThat(countComments(item.getId()), equalTo(1));
+        assertThat(statistics.getDomainDataRegionStatistics("items.comments").getHitCount(), equalTo(1L));
+
+        commentRepository.save(createComment(item, author));
+
+        assertThat(countComments(item.getId()), equalTo(2));
+    }
+
+    @Test
+    void dataCascadedByUserDeletionIsNotServedFromCache() {
+        User owner = userRepository.save(createUser("Owner", "owner@test.com"));
+        User requestor = userRepository.save(createUser("Requestor", "requestor@test.com"));
+        ItemRequest itemRequest = new ItemRequest();
+        itemRequest.setDescription("Нужна дрель");
+        itemRequest.setRequestor(requestor);
+        itemRequestRepository.save(itemRequest);
+        Item item = itemRepository.save(createItem(owner));
+        Comment comment = commentRepository.save(createComment(item, owner));
+        assertThat(countComments(item.getId()), equalTo(1));
+        assertThat(itemRequestRepository.findById(itemRequest.getId()).isPresent(), equalTo(true));
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(Item.class, item.getId()), equalTo(true));
+        assertThat(cache.contains(Comment.class, comment.getId()), equalTo(true));
+        assertThat(cache.contains(ItemRequest.class, itemRequest.getId()), equalTo(true));
+
+        userService.deleteUser(owner.getId());
+        userService.deleteUser(requestor.getId());
+
+        assertThat(cache.contains(Item.class, item.getId()), equalTo(false));
+        assertThat(cache.contains(Comment.class, comment.getId()), equalTo(false));
+        assertThat(cache.contains(ItemRequest.class, itemRequest.getId()), equalTo(false));
+        assertThat(itemRepository.findById(item.getId()).isPresent(), equalTo(false));
+        assertThat(itemRequestRepository.findById(itemRequest.getId()).isPresent(), equalTo(false));
+    }
+
+    @Test
+    void cacheStatisticsArePublishedAsMetrics() {
+        UserDto user = userService.createUser(createUserDto("User", "user@test.com"));
+        userService.getUser(user.getId());
+
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", "users")
+                .tag("result", "hit")
+                .functionCounter(), notNullValue());
+    }
+
+    private int countComments(long itemId) {
+        Integer count = transactionTemplate.execute(status ->
+                itemRepository.findById(itemId).orElseThrow().getComments().size());
+        return count == null ? 0 : count;
+    }
+
+    private UserDto createUserDto(String name, String email) {
+        UserDto userDto = new UserDto();
+        userDto.setName(name);
+        userDto.setEmail(email);
+        return userDto;
+    }
+
+    private User createUser(String name, String email) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        return user;
+    }
+
+    private Item createItem(User owner) {
+        Item item = new Item();
+        item.setName("Дрель");
+        item.setDescription("Простая дрель");
+        item.setAvailable(true);
+        item.setOwner(owner);
+        return item;
+    }
+
+    private Comment createComment(Item item, User author) {
+        Comment comment = new Comment();
+        comment.setText("Отличная дрель");
+        comment.setItem(item);
+        comment.setAuthor(author);
+        return comment;
+    }
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit;
+
+import lombok.Data;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class StatementRecorder implements StatementInspector {
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=ru.practicum.shareit.StatementRecorder";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static <T> Recording<T> record(Supplier<T> call) {
+        List<String> statements = new ArrayList<>();
+        STATEMENTS.set(statements);
+        try {
+            return new Recording<>(call.get(), statements);
+        } finally {
+            STATEMENTS.remove();
+        }
+    }
+
+    public static List<String> recordStatements(Runnable call) {
+        return record(() -> {
+            call.run();
+            return null;
+        }).getStatements();
+    }
+
+    @Data
+    public static class Recording<T> {
+        private final T result;
+        private final List<String> statements;
+    }
+}
@@ -0,0 +1,50 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import ru.practicum.shareit.config.VirtualThreads;
+import ru.practicum.shareit.config.VirtualThreadsConfig;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class VirtualThreadsTest {
+    @Test
+    void tasksRunOnVirtualThreadsWhenSupported() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        try {
+            Boolean virtual = executor.submit(() ->
+                    (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread())).get();
+            assertThat(virtual, equalTo(true));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void applicationTaskExecutorIsKept() {
+        assumeTrue(VirtualThreads.isSupported());
+
+        new ApplicationContextRunner()
+                .withPropertyValues("shareit.threads.virtual=true")
+                .withUserConfiguration(VirtualThreadsConfig.class)
+                .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+                .run(context -> assertThat(context.containsBean("applicationTaskExecutor"), equalTo(true)));
+    }
+
+    @Test
+    void unsupportedRuntimeFailsFast() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        assertThrows(IllegalStateException.class, VirtualThreads::newVirtualThreadPerTaskExecutor);
+    }
+}
@@ -0,0 +1,85 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.availability.BookingAvailability;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.BookingConflictException;
+import ru.practicum.shareit.item.model.Item;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingAvailabilityTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 10, 12, 0);
+
+    private BookingAvailability bookingAvailability;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @BeforeEach
+    void setUp() {
+        bookingAvailability = new BookingAvailability(bookingRepository);
+    }
+
+    @Test
+    void overlapIsCheckedInDatabase() {
+        Mockito
+                .when(bookingRepository.existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(anyLong(), anyCollection(),
+                        any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+
+        assertThat(bookingAvailability.isFree(1, START, START.plusDays(2)), equalTo(false));
+
+        Mockito.verify(bookingRepository, Mockito.times(1)).existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(1L,
+                List.of(BookingStatus.WAITING, BookingStatus.APPROVED), START.plusDays(2), START);
+        Mockito.verifyNoMoreInteractions(bookingRepository);
+    }
+
+    @Test
+    void overlappingReservationIsRejected() {
+        Mockito
+                .when(bookingRepository.existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(anyLong(), anyCollection(),
+                        any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(true);
+
+        Exception exception = assertThrows(BookingConflictException.class,
+                () -> bookingAvailability.reserve(booking(1, START.plusDays(3), START.plusDays(5))));
+        assertThat(exception.getMessage(), equalTo(String.format("Вещь с id = 1 уже забронирована на период с %s по %s",
+                START.plusDays(3), START.plusDays(5))));
+    }
+
+    @Test
+    void freeReservationIsAccepted() {
+        bookingAvailability.reserve(booking(1, START, START.plusDays(2)));
+
+        Mockito.verify(bookingRepository, Mockito.times(1)).existsByItem_IdAndStatusInAndStartBeforeAndEndAfter(1L,
+                List.of(BookingStatus.WAITING, BookingStatus.APPROVED), START.plusDays(2), START);
+    }
+
+    private Booking booking(long itemId, LocalDateTime start, LocalDateTime end) {
+        Item item = new Item();
+        item.setId(itemId);
+
+        Booking booking = new Booking();
+        booking.setItem(item);
+        booking.setStart(start);
+        booking.setEnd(end);
+        return booking;
+    }
+}
@@ -0,0 +1,226 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.BookingConflictException;
+import ru.practicum.shareit.exception.StatusAlreadySetException;
+import ru.practicum.shareit.item.dto.ItemRequestDto;
+import ru.practicum.shareit.item.dto.ItemResponseDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class BookingConcurrencyTest {
+    private static final int THREADS = 16;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    private final List<UserDto> bookers = new ArrayList<>();
+    private UserDto owner;
+    private ItemResponseDto item;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser("owner");
+        for (int i = 0; i < THREADS; i++) {
+            bookers.add(createUser("booker" + i));
+        }
+        item = createItem("Дрель");
+        start = LocalDateTime.now().plusDays(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void overlappingBookingsAreNotCreatedConcurrently() throws Exception {
+        List<Object> results = runConcurrently(i -> () ->
+                bookingService.createBooking(bookers.get(i).getId(), bookingRequest(item, start, start.plusDays(1))));
+
+        assertThat(results.stream().filter(BookingResponseDto.class::isInstance).count(), equalTo(1L));
+        assertThat(results.stream().filter(result -> !(result instanceof BookingResponseDto)).collect(Collectors.toList()),
+                everyItem(instanceOf(BookingConflictException.class)));
+        assertThat(bookingRepository.findAll(), hasSize(1));
+    }
+
+    @Test
+    void bookingIsApprovedOnlyOnce() throws Exception {
+        BookingResponseDto booking = bookingService.createBooking(bookers.get(0).getId(),
+                bookingRequest(item, start, start.plusDays(1)));
+
+        List<Object> results = runConcurrently(i -> () -> bookingService.changeStatus(owner.getId(), booking.getId(), true));
+
+        assertThat(results.stream().filter(BookingResponseDto.class::isInstance).count(), equalTo(1L));
+        assertThat(results.stream().filter(result -> !(result instanceof BookingResponseDto)).collect(Collectors.toList()),
+                everyItem(instanceOf(StatusAlreadySetException.class)));
+        assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getStatus(), equalTo(BookingStatus.APPROVED));
+    }
+
+    @Test
+    void concurrentApprovalsOfOneItemAreNotLost() throws Exception {
+        List<Long> bookingIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            bookingIds.add(bookingService.createBooking(bookers.get(i).getId(),
+                    bookingRequest(item, start.plusDays(i), start.plusDays(i + 1))).getId());
+        }
+
+        List<Object> results = runConcurrently(i -> () -> bookingService.changeStatus(owner.getId(), bookingIds.get(i), true));
+
+        assertThat(results, everyItem(instanceOf(BookingResponseDto.class)));
+        assertThat(bookingRepository.findAllById(bookingIds).stream().map(Booking::getStatus).collect(Collectors.toList()),
+                everyItem(equalTo(BookingStatus.APPROVED)));
+    }
+
+    @Test
+    void lockedItemDoesNotBlockOtherItems() throws Exception {
+        ItemResponseDto otherItem = createItem("Пила");
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.lockById(item.getId());
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS), equalTo(true));
+
+        Future<BookingResponseDto> other = executor.submit(() -> bookingService.createBooking(bookers.get(0).getId(),
+                bookingRequest(otherItem, start, start.plusDays(1))));
+        assertThat(other.get(5, TimeUnit.SECONDS).getItem().getId(), equalTo(otherItem.getId()));
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void lockedItemBlocksItsBookings() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.lockById(item.getId());
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS), equalTo(true));
+
+        Future<BookingResponseDto> blocked = executor.submit(() -> bookingService.createBooking(bookers.get(0).getId(),
+                bookingRequest(item, start, start.plusDays(1))));
+        assertThrows(TimeoutException.class, () -> blocked.get(500, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(blocked.get(5, TimeUnit.SECONDS).getItem().getId(), equalTo(item.getId()));
+    }
+
+    private List<Object> runConcurrently(IntFunction<Callable<?>> task) throws InterruptedException {
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Callable<?> call = task.apply(i);
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                return call.call();
+            }));
+        }
+        startGate.countDown();
+
+        List<Object> results = new ArrayList<>();
+        for (Future<?> future : futures) {
+            try {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                results.add(e.getCause());
+            } catch (TimeoutException e) {
+                throw new AssertionError("Бронирование не завершилось за отведенное время", e);
+            }
+        }
+        return results;
+    }
+
+    private UserDto createUser(String name) {
+        UserDto userDto = new UserDto();
+        userDto.setName(name);
+        userDto.setEmail(name + "@test.com");
+        return userService.createUser(userDto);
+    }
+
+    private ItemResponseDto createItem(String name) {
+        ItemRequestDto itemRequestDto = new ItemRequestDto();
+        itemRequestDto.setName(name);
+        itemRequestDto.setDescription(name);
+        itemRequestDto.setAvailable(true);
+        return itemService.createItem(owner.getId(), itemRequestDto);
+    }
+
+    private BookingRequestDto bookingRequest(ItemResponseDto item, LocalDateTime start, LocalDateTime end) {
+        BookingRequestDto bookingRequestDto = new BookingRequestDto();
+        bookingRequestDto.setItemId(item.getId());
+        bookingRequestDto.setStart(start);
+        bookingRequestDto.setEnd(end);
+        return bookingRequestDto;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -16,9 +17,12 @@ import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.BookingConflictException;
 import ru.practicum.shareit.exception.CrossDateException;
 import ru.practicum.shareit.exception.StatusAlreadySetException;
+import ru.practicum.shareit.exception.WrongCursorException;
 import ru.practicum.shareit.exception.WrongOwnerException;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -27,6 +31,7 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -84,7 +89,7 @@ public class BookingControllerTest {
     @Test
     void getBookingsTest() throws Exception {
         Mockito
-                .when(bookingService.getBookings(anyLong(), any(BookingState.class), anyInt(), anyInt()))
+                .when(bookingService.getBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), isNull()))
                 .thenReturn(List.of(bookingResponseDto));
 
         mockMvc.perform(MockMvcRequestBuilders.get("/bookings")
@@ -104,10 +109,66 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$[0].status", is(BookingStatus.APPROVED.name())));
     }
 
+    @Test
+    void getBookingsNextCursorTest() throws Exception {
+        Mockito
+                .when(bookingService.getBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), anyString()))
+                .thenReturn(List.of(bookingResponseDto));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/bookings")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 1)
+                        .param("state", "ALL")
+                        .param("from", "0")
+                        .param("size", "1")
+                        .param("cursor", "cursor"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PageCursor.NEXT_CURSOR_HEADER,
+                        PageCursor.of(bookingResponseDto.getStart(), bookingResponseDto.getId()).encode()))
+                .andExpect(jsonPath("$[0].id", is(bookingResponseDto.getId()), Long.class));
+
+        Mockito
+                .verify(bookingService, Mockito.times(1))
+                .getBookings(1L, BookingState.ALL, 0, 1, "cursor");
+    }
+
+    @Test
+    void getBookingsLastPageTest() throws Exception {
+        Mockito
+                .when(bookingService.getBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), isNull()))
+                .thenReturn(List.of(bookingResponseDto));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/bookings")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 1)
+                        .param("state", "ALL")
+                        .param("from", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(PageCursor.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getBookingsWrongCursorTest() throws Exception {
+        Mockito
+                .when(bookingService.getBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), anyString()))
+                .thenThrow(new WrongCursorException("Некорректный курсор: cursor"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/bookings")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 1)
+                        .param("state", "ALL")
+                        .param("from", "0")
+                        .param("size", "10")
+                        .param("cursor", "cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Некорректный курсор: cursor")));
+    }
+
     @Test
     void getBookingsByOwnerTest() throws Exception {
         Mockito
-                .when(bookingService.getBookingsByItemOwner(anyLong(), any(BookingState.class), anyInt(), anyInt()))
+                .when(bookingService.getBookingsByItemOwner(anyLong(), any(BookingState.class), anyInt(), anyInt(), isNull()))
                 .thenReturn(List.of(bookingResponseDto));
 
         mockMvc.perform(MockMvcRequestBuilders.get("/bookings/owner")
@@ -176,6 +237,42 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$.error", is("Дата окончания бронирования меньше даты начала бронирования")));
     }
 
+    @Test
+    void createBookingConflictTest() throws Exception {
+        BookingRequestDto requestDto = new BookingRequestDto();
+        requestDto.setItemId(1L);
+        requestDto.setStart(LocalDateTime.now().plusDays(2));
+        requestDto.setEnd(LocalDateTime.now().plusDays(4));
+
+        Mockito
+                .when(bookingService.createBooking(anyLong(), any(BookingRequestDto.class)))
+                .thenThrow(new BookingConflictException("Вещь с id = 1 уже забронирована"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/bookings")
+                        .header("X-Sharer-User-Id", 1)
+                        .content(objectMapper.writeValueAsString(requestDto))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error", is("Вещь с id = 1 уже забронирована")));
+    }
+
+    @Test
+    void changeStatusLockTimeoutTest() throws Exception {
+        Mockito
+                .when(bookingService.changeStatus(anyLong(), anyLong(), anyBoolean()))
+                .thenThrow(new CannotAcquireLockException("could not obtain lock"));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/bookings/1")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("approved", "true")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error", is("Вещь изменяется другим запросом, повторите попытку позже")));
+    }
+
     @Test
     void changeStatusTest() throws Exception {
         Mockito
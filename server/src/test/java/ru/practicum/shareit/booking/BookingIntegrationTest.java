@@ -10,8 +10,11 @@ import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.BookingConflictException;
+import ru.practicum.shareit.exception.WrongCursorException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
@@ -21,6 +24,7 @@ import java.util.List;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -111,7 +115,7 @@ public class BookingIntegrationTest {
 
     @Test
     void getAllBookingsTest() {
-        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.ALL, 0, 10);
+        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.ALL, 0, 10, null);
 
         assertThat(bookings, hasSize(4));
         assertThat(bookings.get(0).getId(), equalTo(fourthBookingResponseDto.getId()));
@@ -120,9 +124,51 @@ public class BookingIntegrationTest {
         assertThat(bookings.get(3).getId(), equalTo(thirdBookingResponseDto.getId()));
     }
 
+    @Test
+    void getBookingsFromOffsetTest() {
+        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.ALL, 1, 2, null);
+
+        assertThat(bookings, hasSize(2));
+        assertThat(bookings.get(0).getId(), equalTo(secondBookingResponseDto.getId()));
+        assertThat(bookings.get(1).getId(), equalTo(firstBookingResponseDto.getId()));
+    }
+
+    @Test
+    void getBookingsByCursorTest() {
+        List<BookingResponseDto> firstPage = bookingService.getBookings(booker.getId(), BookingState.ALL, 0, 2, null);
+        BookingResponseDto last = firstPage.get(firstPage.size() - 1);
+        String cursor = PageCursor.of(last.getStart(), last.getId()).encode();
+
+        List<BookingResponseDto> secondPage = bookingService.getBookings(booker.getId(), BookingState.ALL, 0, 2, cursor);
+
+        assertThat(secondPage, hasSize(2));
+        assertThat(secondPage.get(0).getId(), equalTo(firstBookingResponseDto.getId()));
+        assertThat(secondPage.get(1).getId(), equalTo(thirdBookingResponseDto.getId()));
+    }
+
+    @Test
+    void getBookingsByItemOwnerAndCursorTest() {
+        List<BookingResponseDto> firstPage = bookingService.getBookingsByItemOwner(itemOwner.getId(), BookingState.ALL, 0, 3, null);
+        BookingResponseDto last = firstPage.get(firstPage.size() - 1);
+        String cursor = PageCursor.of(last.getStart(), last.getId()).encode();
+
+        List<BookingResponseDto> secondPage = bookingService.getBookingsByItemOwner(itemOwner.getId(), BookingState.ALL, 0, 3, cursor);
+
+        assertThat(secondPage, hasSize(1));
+        assertThat(secondPage.get(0).getId(), equalTo(thirdBookingResponseDto.getId()));
+    }
+
+    @Test
+    void getBookingsByWrongCursorTest() {
+        assertThrows(WrongCursorException.class,
+                () -> bookingService.getBookings(booker.getId(), BookingState.ALL, 0, 2, "not a cursor"));
+        assertThrows(WrongCursorException.class,
+                () -> bookingService.getBookings(booker.getId(), BookingState.ALL, 0, 2, PageCursor.of(1).encode()));
+    }
+
     @Test
     void getRejectedBookingsTest() {
-        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.REJECTED, 0, 10);
+        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.REJECTED, 0, 10, null);
 
         assertThat(bookings, hasSize(1));
         assertThat(bookings.get(0).getId(), equalTo(firstBookingResponseDto.getId()));
@@ -130,7 +176,7 @@ public class BookingIntegrationTest {
 
     @Test
     void getWaitingBookingsTest() {
-        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.WAITING, 0, 10);
+        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.WAITING, 0, 10, null);
 
         assertThat(bookings, hasSize(3));
         assertThat(bookings.get(0).getId(), equalTo(fourthBookingResponseDto.getId()));
@@ -140,7 +186,7 @@ public class BookingIntegrationTest {
 
     @Test
     void getCurrentBookingsTest() {
-        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.CURRENT, 0, 10);
+        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.CURRENT, 0, 10, null);
 
         assertThat(bookings, hasSize(2));
         assertThat(bookings.get(0).getId(), equalTo(secondBookingResponseDto.getId()));
@@ -149,7 +195,7 @@ public class BookingIntegrationTest {
 
     @Test
     void getPastBookingsTest() {
-        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.PAST, 0, 10);
+        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.PAST, 0, 10, null);
 
         assertThat(bookings, hasSize(1));
         assertThat(bookings.get(0).getId(), equalTo(thirdBookingResponseDto.getId()));
@@ -157,9 +203,65 @@ public class BookingIntegrationTest {
 
     @Test
     void getFutureBookingsTest() {
-        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.FUTURE, 0, 10);
+        List<BookingResponseDto> bookings = bookingService.getBookings(booker.getId(), BookingState.FUTURE, 0, 10, null);
 
         assertThat(bookings, hasSize(1));
         assertThat(bookings.get(0).getId(), equalTo(fourthBookingResponseDto.getId()));
     }
+
+    @Test
+    void getAllBookingsByItemOwnerTest() {
+        List<BookingResponseDto> bookings = bookingService.getBookingsByItemOwner(itemOwner.getId(), BookingState.ALL, 0, 10, null);
+
+        assertThat(bookings, hasSize(4));
+        assertThat(bookings.get(0).getId(), equalTo(fourthBookingResponseDto.getId()));
+        assertThat(bookings.get(1).getId(), equalTo(secondBookingResponseDto.getId()));
+        assertThat(bookings.get(2).getId(), equalTo(firstBookingResponseDto.getId()));
+        assertThat(bookings.get(3).getId(), equalTo(thirdBookingResponseDto.getId()));
+    }
+
+    @Test
+    void getCurrentBookingsByItemOwnerTest() {
+        List<BookingResponseDto> bookings = bookingService.getBookingsByItemOwner(itemOwner.getId(), BookingState.CURRENT, 0, 10, null);
+
+        assertThat(bookings, hasSize(2));
+        assertThat(bookings.get(0).getId(), equalTo(secondBookingResponseDto.getId()));
+        assertThat(bookings.get(1).getId(), equalTo(firstBookingResponseDto.getId()));
+    }
+
+    @Test
+    void createOverlappingBookingTest() {
+        BookingRequestDto bookingRequestDto = new BookingRequestDto();
+        bookingRequestDto.setItemId(thirdItem.getId());
+        bookingRequestDto.setStart(fourthBookingRequestDto.getStart().plusDays(1));
+        bookingRequestDto.setEnd(fourthBookingRequestDto.getEnd().plusDays(1));
+
+        assertThrows(BookingConflictException.class, () -> bookingService.createBooking(booker.getId(), bookingRequestDto));
+
+        bookingRequestDto.setStart(fourthBookingRequestDto.getStart().plusHours(1));
+        bookingRequestDto.setEnd(fourthBookingRequestDto.getStart().plusHours(2));
+
+        assertThrows(BookingConflictException.class, () -> bookingService.createBooking(booker.getId(), bookingRequestDto));
+
+        bookingRequestDto.setStart(fourthBookingRequestDto.getEnd());
+        bookingRequestDto.setEnd(fourthBookingRequestDto.getEnd().plusDays(1));
+
+        assertThat(bookingService.createBooking(booker.getId(), bookingRequestDto).getItem().getId(), equalTo(thirdItem.getId()));
+    }
+
+    @Test
+    void createBookingOverRejectedBookingTest() {
+        BookingResponseDto bookingResponseDto = bookingService.createBooking(booker.getId(), firstBookingRequestDto);
+
+        assertThat(bookingResponseDto.getStart(), equalTo(firstBookingResponseDto.getStart()));
+        assertThrows(BookingConflictException.class,
+                () -> bookingService.changeStatus(itemOwner.getId(), firstBookingResponseDto.getId(), true));
+    }
+
+    @Test
+    void getBookingsByNotItemOwnerTest() {
+        List<BookingResponseDto> bookings = bookingService.getBookingsByItemOwner(booker.getId(), BookingState.ALL, 0, 10, null);
+
+        assertThat(bookings, hasSize(0));
+    }
 }
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import ru.practicum.shareit.QueryBudgetTest;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.model.BookingState;
+
+import java.time.LocalDateTime;
+
+public class BookingQueryBudgetTest extends QueryBudgetTest {
+    @ParameterizedTest
+    @EnumSource(value = BookingState.class, names = "TEST_STATE", mode = EnumSource.Mode.EXCLUDE)
+    void getBookingsByBooker(BookingState state) {
+        assertBudget(() -> bookingService.getBookings(booker.getId(), state, 0, 10, null), 2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = BookingState.class, names = "TEST_STATE", mode = EnumSource.Mode.EXCLUDE)
+    void getBookingsByItemOwner(BookingState state) {
+        assertBudget(() -> bookingService.getBookingsByItemOwner(owner.getId(), state, 0, 10, null), 2);
+    }
+
+    @Test
+    void getBooking() {
+        assertBudget(() -> bookingService.getBookingById(booker.getId(), bookings.get(0).getId()), 2);
+    }
+
+    @Test
+    void createBooking() {
+        assertBudget(() -> bookingService.createBooking(booker.getId(), bookingRequest(10)), 5);
+    }
+
+    @Test
+    void approveBooking() {
+        BookingResponseDto booking = bookingService.createBooking(booker.getId(), bookingRequest(20));
+
+        assertBudget(() -> bookingService.changeStatus(owner.getId(), booking.getId(), true), 4);
+    }
+
+    private BookingRequestDto bookingRequest(int startInDays) {
+        LocalDateTime start = LocalDateTime.now().plusDays(startInDays);
+        BookingRequestDto bookingRequestDto = new BookingRequestDto();
+        bookingRequestDto.setItemId(items.get(2).getId());
+        bookingRequestDto.setStart(start);
+        bookingRequestDto.setEnd(start.plusDays(1));
+        return bookingRequestDto;
+    }
+}
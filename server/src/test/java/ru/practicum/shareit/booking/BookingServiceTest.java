@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,6 +9,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import ru.practicum.shareit.booking.availability.BookingAvailability;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
@@ -20,8 +23,10 @@ import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceCache;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,9 +49,13 @@ public class BookingServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private BookingAvailability bookingAvailability;
+
     @BeforeEach
     void setUp() {
-        bookingService = new BookingService(bookingRepository, userRepository, itemRepository);
+        bookingService = new BookingService(bookingRepository, userRepository,
+                new UserExistenceCache(userRepository, new SimpleMeterRegistry(), 100), itemRepository, bookingAvailability);
     }
 
     @Test
@@ -175,11 +184,11 @@ public class BookingServiceTest {
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(new User()));
 
-        bookingService.getBookings(1, BookingState.ALL, 0, 10);
+        bookingService.getBookings(1, BookingState.ALL, 0, 10, null);
 
         Mockito
                 .verify(bookingRepository, Mockito.times(1))
-                .findBookingsByBooker_Id(anyLong(), any(Pageable.class));
+                .findBookings(any(Specification.class), any(Pageable.class));
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
     }
 
@@ -190,7 +199,7 @@ public class BookingServiceTest {
                 .thenReturn(Optional.of(new User()));
 
         Exception exception = assertThrows(WrongBookingStateException.class,
-                () -> bookingService.getBookings(1, BookingState.TEST_STATE, 0, 10));
+                () -> bookingService.getBookings(1, BookingState.TEST_STATE, 0, 10, null));
         assertThat(exception.getMessage(), equalTo("Unknown state: TEST_STATE"));
 
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
@@ -199,7 +208,7 @@ public class BookingServiceTest {
     @Test
     void getBookingsUserNotFoundTest() {
         Exception exception = assertThrows(UnitNotFoundException.class,
-                () -> bookingService.getBookings(1, BookingState.ALL, 1, 1));
+                () -> bookingService.getBookings(1, BookingState.ALL, 1, 1, null));
         assertThat(exception.getMessage(), equalTo("Пользователь с id = 1 не найден"));
 
         Mockito.verify(userRepository, Mockito.times(1)).findById(1L);
@@ -211,15 +220,12 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(new User()));
-        Mockito
-                .when(itemRepository.findItemsByOwner_Id(anyLong()))
-                .thenReturn(List.of(new Item(), new Item()));
 
-        bookingService.getBookingsByItemOwner(1, BookingState.ALL, 0, 10);
+        bookingService.getBookingsByItemOwner(1, BookingState.ALL, 0, 10, null);
 
         Mockito
                 .verify(bookingRepository, Mockito.times(1))
-                .findBookingsByItem_IdIn(anyList(), any(Pageable.class));
+                .findBookings(any(Specification.class), any(Pageable.class));
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
     }
 
@@ -228,15 +234,12 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(new User()));
-        Mockito
-                .when(itemRepository.findItemsByOwner_Id(anyLong()))
-                .thenReturn(List.of(new Item(), new Item()));
 
-        bookingService.getBookingsByItemOwner(1, BookingState.WAITING, 0, 10);
+        bookingService.getBookingsByItemOwner(1, BookingState.WAITING, 0, 10, null);
 
         Mockito
                 .verify(bookingRepository, Mockito.times(1))
-                .findBookingsByItem_IdInAndStatus(anyList(), any(BookingStatus.class), any(Pageable.class));
+                .findBookings(any(Specification.class), any(Pageable.class));
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
     }
 
@@ -245,15 +248,12 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(new User()));
-        Mockito
-                .when(itemRepository.findItemsByOwner_Id(anyLong()))
-                .thenReturn(List.of(new Item(), new Item()));
 
-        bookingService.getBookingsByItemOwner(1, BookingState.REJECTED, 0, 10);
+        bookingService.getBookingsByItemOwner(1, BookingState.REJECTED, 0, 10, null);
 
         Mockito
                 .verify(bookingRepository, Mockito.times(1))
-                .findBookingsByItem_IdInAndStatus(anyList(), any(BookingStatus.class), any(Pageable.class));
+                .findBookings(any(Specification.class), any(Pageable.class));
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
     }
 
@@ -262,15 +262,12 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(new User()));
-        Mockito
-                .when(itemRepository.findItemsByOwner_Id(anyLong()))
-                .thenReturn(List.of(new Item(), new Item()));
 
-        bookingService.getBookingsByItemOwner(1, BookingState.CURRENT, 0, 10);
+        bookingService.getBookingsByItemOwner(1, BookingState.CURRENT, 0, 10, null);
 
         Mockito
                 .verify(bookingRepository, Mockito.times(1))
-                .findBookingsByItem_IdInAndStartIsBeforeAndEndIsAfter(anyList(), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
+                .findBookings(any(Specification.class), any(Pageable.class));
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
     }
 
@@ -279,15 +276,12 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(new User()));
-        Mockito
-                .when(itemRepository.findItemsByOwner_Id(anyLong()))
-                .thenReturn(List.of(new Item(), new Item()));
 
-        bookingService.getBookingsByItemOwner(1, BookingState.PAST, 0, 10);
+        bookingService.getBookingsByItemOwner(1, BookingState.PAST, 0, 10, null);
 
         Mockito
                 .verify(bookingRepository, Mockito.times(1))
-                .findBookingsByItem_IdInAndEndIsBefore(anyList(), any(LocalDateTime.class), any(Pageable.class));
+                .findBookings(any(Specification.class), any(Pageable.class));
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
     }
 
@@ -296,15 +290,12 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(new User()));
-        Mockito
-                .when(itemRepository.findItemsByOwner_Id(anyLong()))
-                .thenReturn(List.of(new Item(), new Item()));
 
-        bookingService.getBookingsByItemOwner(1, BookingState.FUTURE, 0, 10);
+        bookingService.getBookingsByItemOwner(1, BookingState.FUTURE, 0, 10, null);
 
         Mockito
                 .verify(bookingRepository, Mockito.times(1))
-                .findBookingsByItem_IdInAndStartIsAfter(anyList(), any(LocalDateTime.class), any(Pageable.class));
+                .findBookings(any(Specification.class), any(Pageable.class));
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
     }
 
@@ -313,12 +304,9 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(new User()));
-        Mockito
-                .when(itemRepository.findItemsByOwner_Id(anyLong()))
-                .thenReturn(List.of(new Item(), new Item()));
 
         Exception exception = assertThrows(WrongBookingStateException.class,
-                () -> bookingService.getBookingsByItemOwner(1, BookingState.TEST_STATE, 0, 10));
+                () -> bookingService.getBookingsByItemOwner(1, BookingState.TEST_STATE, 0, 10, null));
         assertThat(exception.getMessage(), equalTo("Unknown state: TEST_STATE"));
 
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
@@ -330,17 +318,17 @@ public class BookingServiceTest {
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(new User()));
 
-        List<BookingResponseDto> items = bookingService.getBookingsByItemOwner(1, BookingState.ALL, 0, 10);
+        List<BookingResponseDto> items = bookingService.getBookingsByItemOwner(1, BookingState.ALL, 0, 10, null);
 
         assertThat(items, hasSize(0));
-        Mockito.verify(itemRepository, Mockito.times(1)).findItemsByOwner_Id(1);
+        Mockito.verify(bookingRepository, Mockito.times(1)).findBookings(any(Specification.class), any(Pageable.class));
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
     }
 
     @Test
     void getBookingsByOwnerNotFoundTest() {
         Exception exception = assertThrows(UnitNotFoundException.class,
-                () -> bookingService.getBookingsByItemOwner(1, BookingState.ALL, 1, 1));
+                () -> bookingService.getBookingsByItemOwner(1, BookingState.ALL, 1, 1, null));
         assertThat(exception.getMessage(), equalTo("Пользователь с id = 1 не найден"));
 
         Mockito.verify(userRepository, Mockito.times(1)).findById(1L);
@@ -378,6 +366,9 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(booker));
+        Mockito
+                .when(itemRepository.lockById(anyLong()))
+                .thenReturn(Optional.of(item.getId()));
         Mockito
                 .when(itemRepository.findById(anyLong()))
                 .thenReturn(Optional.of(item));
@@ -393,10 +384,47 @@ public class BookingServiceTest {
 
         assertThat(capturedBooking.getItem(), equalTo(item));
         assertThat(capturedBooking.getBooker(), equalTo(booker));
-        assertThat(capturedBooking.getStart(), equalTo(bookingRequestDto.getStart()));
-        assertThat(capturedBooking.getEnd(), equalTo(bookingRequestDto.getEnd()));
+        assertThat(capturedBooking.getStart(), equalTo(bookingRequestDto.getStart().truncatedTo(ChronoUnit.MICROS)));
+        assertThat(capturedBooking.getEnd(), equalTo(bookingRequestDto.getEnd().truncatedTo(ChronoUnit.MICROS)));
         assertThat(capturedBooking.getStatus(), equalTo(BookingStatus.WAITING));
-        Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
+        Mockito.verify(bookingAvailability, Mockito.times(1)).reserve(capturedBooking);
+        Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository, bookingAvailability);
+    }
+
+    @Test
+    void createBookingConflictTest() {
+        User booker = new User();
+        booker.setId(1);
+
+        User itemOwner = new User();
+        itemOwner.setId(2);
+
+        Item item = new Item();
+        item.setId(1);
+        item.setAvailable(true);
+        item.setOwner(itemOwner);
+
+        BookingRequestDto bookingRequestDto = new BookingRequestDto();
+        bookingRequestDto.setItemId(item.getId());
+        bookingRequestDto.setStart(LocalDateTime.now().plusDays(1));
+        bookingRequestDto.setEnd(LocalDateTime.now().plusDays(2));
+
+        Mockito
+                .when(userRepository.findById(anyLong()))
+                .thenReturn(Optional.of(booker));
+        Mockito
+                .when(itemRepository.lockById(anyLong()))
+                .thenReturn(Optional.of(item.getId()));
+        Mockito
+                .when(itemRepository.findById(anyLong()))
+                .thenReturn(Optional.of(item));
+        Mockito
+                .doThrow(new BookingConflictException("Вещь с id = 1 уже забронирована"))
+                .when(bookingAvailability).reserve(any(Booking.class));
+
+        assertThrows(BookingConflictException.class, () -> bookingService.createBooking(1, bookingRequestDto));
+
+        Mockito.verify(bookingRepository, Mockito.never()).save(any(Booking.class));
     }
 
     @Test
@@ -428,7 +456,7 @@ public class BookingServiceTest {
                 () -> bookingService.createBooking(1, bookingRequestDto));
         assertThat(exception.getMessage(), equalTo("Вещь с id = 1 не найдена"));
 
-        Mockito.verify(itemRepository, Mockito.times(1)).findById(1L);
+        Mockito.verify(itemRepository, Mockito.times(1)).lockById(1L);
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
     }
 
@@ -450,6 +478,9 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(booker));
+        Mockito
+                .when(itemRepository.lockById(anyLong()))
+                .thenReturn(Optional.of(item.getId()));
         Mockito
                 .when(itemRepository.findById(anyLong()))
                 .thenReturn(Optional.of(item));
@@ -477,6 +508,9 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(booker));
+        Mockito
+                .when(itemRepository.lockById(anyLong()))
+                .thenReturn(Optional.of(item.getId()));
         Mockito
                 .when(itemRepository.findById(anyLong()))
                 .thenReturn(Optional.of(item));
@@ -508,6 +542,9 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(user));
+        Mockito
+                .when(itemRepository.lockByBookingId(anyLong()))
+                .thenReturn(Optional.of(item.getId()));
         Mockito
                 .when(bookingRepository.findById(anyLong()))
                 .thenReturn(Optional.of(booking));
@@ -516,7 +553,7 @@ public class BookingServiceTest {
 
         assertThat(bookingResponseDto.getId(), equalTo(booking.getId()));
         assertThat(bookingResponseDto.getStatus(), equalTo(BookingStatus.APPROVED));
-        Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
+        Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository, bookingAvailability);
     }
 
     @Test
@@ -539,6 +576,9 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(user));
+        Mockito
+                .when(itemRepository.lockByBookingId(anyLong()))
+                .thenReturn(Optional.of(item.getId()));
         Mockito
                 .when(bookingRepository.findById(anyLong()))
                 .thenReturn(Optional.of(booking));
@@ -547,7 +587,7 @@ public class BookingServiceTest {
 
         assertThat(bookingResponseDto.getId(), equalTo(booking.getId()));
         assertThat(bookingResponseDto.getStatus(), equalTo(BookingStatus.REJECTED));
-        Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
+        Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository, bookingAvailability);
     }
 
     @Test
@@ -567,6 +607,9 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(user));
+        Mockito
+                .when(itemRepository.lockByBookingId(anyLong()))
+                .thenReturn(Optional.of(item.getId()));
         Mockito
                 .when(bookingRepository.findById(anyLong()))
                 .thenReturn(Optional.of(booking));
@@ -599,6 +642,9 @@ public class BookingServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(user));
+        Mockito
+                .when(itemRepository.lockByBookingId(anyLong()))
+                .thenReturn(Optional.of(item.getId()));
         Mockito
                 .when(bookingRepository.findById(anyLong()))
                 .thenReturn(Optional.of(booking));
@@ -620,7 +666,7 @@ public class BookingServiceTest {
                 () -> bookingService.changeStatus(1, 1, true));
         assertThat(exception.getMessage(), equalTo("Запись бронирования с id = 1 не найдена"));
 
-        Mockito.verify(bookingRepository, Mockito.times(1)).findById(1L);
+        Mockito.verify(itemRepository, Mockito.times(1)).lockByBookingId(1L);
         Mockito.verifyNoMoreInteractions(bookingRepository, itemRepository, userRepository);
     }
 }
@@ -0,0 +1,192 @@
+package ru.practicum.shareit.item;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.dto.ItemShortDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.InMemoryItemSearchIndex;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryItemSearchIndexTest {
+    private InMemoryItemSearchIndex itemSearchIndex;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @BeforeEach
+    void setUp() {
+        itemSearchIndex = new InMemoryItemSearchIndex(itemRepository);
+    }
+
+    @Test
+    void searchItemByNameAndDescription() {
+        index(1, "First name", "Description", true);
+        index(2, "Second name", "First description", true);
+        index(3, "Third name", "Description", true);
+
+        assertThat(search("first"), contains(1L, 2L));
+        assertThat(search("third"), contains(3L));
+    }
+
+    @Test
+    void searchItemByPrefixIgnoringCase() {
+        index(1, "Дрель+", "Простая дрель", true);
+
+        assertThat(search("дРелЬ"), contains(1L));
+        assertThat(search("дре"), contains(1L));
+        assertThat(search("дрель+"), contains(1L));
+        assertThat(search("ель"), Matchers.empty());
+        assertThat(search("отвертка"), Matchers.empty());
+    }
+
+    @Test
+    void searchMergesPostingsOfAllMatchingTerms() {
+        index(4, "Дрелька", "Описание", true);
+        index(1, "Дрель", "Описание", true);
+        index(3, "Электродрель", "Описание", true);
+        index(2, "Дрели", "Описание", true);
+        index(5, "Отвертка", "Описание", true);
+
+        assertThat(search("дрел"), contains(1L, 2L, 4L));
+        assertThat(search("др"), contains(1L, 2L, 4L));
+        assertThat(search("!!!"), Matchers.empty());
+    }
+
+    @Test
+    void searchRanksNameMatchesFirst() {
+        index(1, "Отвертка", "Аккумуляторная отвертка, не дрель", true);
+        index(2, "Аккумуляторная дрель", "Дрель с зарядкой", true);
+
+        assertThat(search("дрель"), contains(2L, 1L));
+        assertThat(search("аккумуляторная дрель"), contains(2L, 1L));
+        assertThat(search("дрель зарядкой"), contains(2L));
+    }
+
+    @Test
+    void searchMatchesTokensLongerThanIndexedPrefix() {
+        index(1, "Электроперфораторостроение", "Описание", true);
+
+        assertThat(search("электроперфораторостроение"), contains(1L));
+        assertThat(search("электроперфоратор"), contains(1L));
+    }
+
+    @Test
+    void searchSkipsUnavailableItems() {
+        index(1, "Дрель", "Сломана", false);
+        index(2, "Дрель", "Работает", true);
+
+        assertThat(search("дрель"), contains(2L));
+    }
+
+    @Test
+    void searchAppliesPagination() {
+        index(3, "Дрель", "Третья", true);
+        index(1, "Дрель", "Первая", true);
+        index(2, "Дрель", "Вторая", true);
+
+        assertThat(itemSearchIndex.search("дрель", PageRequest.of(0, 2)), contains(1L, 2L));
+        assertThat(itemSearchIndex.search("дрель", PageRequest.of(1, 2)), contains(3L));
+    }
+
+    @Test
+    void updatedItemIsReindexed() {
+        index(1, "Дрель", "Описание", true);
+        index(1, "Отвертка", "Описание", true);
+
+        assertThat(search("дрель"), Matchers.empty());
+        assertThat(search("отвертка"), contains(1L));
+        assertThat(itemSearchIndex.size(), equalTo(1));
+    }
+
+    @Test
+    void removedItemIsNotFound() {
+        index(1, "Дрель", "Описание", true);
+        index(2, "Дрель", "Описание", true);
+
+        itemSearchIndex.remove(1);
+
+        assertThat(search("дрель"), contains(2L));
+        assertThat(search("описание"), contains(2L));
+    }
+
+    @Test
+    void rebuildLoadsItemsInBatches() {
+        Mockito
+                .when(itemRepository.findItemsForIndexing(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(
+                        new ItemShortDto(1, "Дрель", "Описание", true),
+                        new ItemShortDto(2, "Отвертка", "Описание", true)));
+
+        itemSearchIndex.rebuild();
+
+        assertThat(search("дрель"), contains(1L));
+        assertThat(search("описание"), contains(1L, 2L));
+        Mockito.verify(itemRepository, Mockito.times(1)).findItemsForIndexing(eq(0L), any(Pageable.class));
+        Mockito.verifyNoMoreInteractions(itemRepository);
+    }
+
+    @Test
+    void rebuildKeepsChangesMadeWhileLoading() {
+        Mockito
+                .when(itemRepository.findItemsForIndexing(eq(0L), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    index(1, "Пила", "Описание", true);
+                    itemSearchIndex.remove(2);
+                    return List.of(
+                            new ItemShortDto(1, "Дрель", "Описание", true),
+                            new ItemShortDto(2, "Отвертка", "Описание", true),
+                            new ItemShortDto(3, "Молоток", "Описание", true));
+                });
+
+        itemSearchIndex.rebuild();
+
+        assertThat(search("дрель"), Matchers.empty());
+        assertThat(search("пила"), contains(1L));
+        assertThat(search("отвертка"), Matchers.empty());
+        assertThat(search("описание"), contains(1L, 3L));
+    }
+
+    @Test
+    void rebuildDropsStaleItems() {
+        index(1, "Дрель", "Описание", true);
+        Mockito
+                .when(itemRepository.findItemsForIndexing(eq(0L), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        itemSearchIndex.rebuild();
+
+        assertThat(search("дрель"), Matchers.empty());
+        assertThat(itemSearchIndex.size(), equalTo(0));
+    }
+
+    private List<Long> search(String query) {
+        return itemSearchIndex.search(query, PageRequest.of(0, 10));
+    }
+
+    private void index(long id, String name, String description, boolean available) {
+        Item item = new Item();
+        item.setId(id);
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(available);
+
+        itemSearchIndex.index(item);
+    }
+}
@@ -63,7 +63,7 @@ public class ItemControllerTest {
     @Test
     void getItemsByUserTest() throws Exception {
         Mockito
-                .when(itemService.getItemsByUserId(anyLong(), anyInt(), anyInt()))
+                .when(itemService.getItemsByUserId(anyLong(), anyInt(), anyInt(), isNull()))
                 .thenReturn(List.of(itemResponseDto));
 
         mockMvc.perform(MockMvcRequestBuilders.get("/items")
@@ -5,14 +5,24 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.item.dto.ItemRequestDto;
 import ru.practicum.shareit.item.dto.ItemResponseDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 
 @SpringBootTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -24,6 +34,12 @@ public class ItemIntegrationTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Autowired
+    BookingRepository bookingRepository;
+
     @Test
     void updateItem() {
         User user = new User();
@@ -49,4 +65,87 @@ public class ItemIntegrationTest {
         assertThat(updatedItemDto.getName(), equalTo(itemToUpdateDto.getName()));
         assertThat(updatedItemDto.getDescription(), equalTo(itemToUpdateDto.getDescription()));
     }
+
+    @Test
+    void getItemsByUserIdWithBookings() {
+        User owner = new User();
+        owner.setName("Owner");
+        owner.setEmail("owner@test.com");
+
+        User booker = new User();
+        booker.setName("Booker");
+        booker.setEmail("booker@test.com");
+
+        userRepository.save(owner);
+        userRepository.save(booker);
+
+        Item firstItem = createItem(owner, "First item");
+        Item secondItem = createItem(owner, "Second item");
+
+        createBooking(firstItem, booker, LocalDateTime.now().minusDays(5), BookingStatus.APPROVED);
+        Booking lastBooking = createBooking(firstItem, booker, LocalDateTime.now().minusDays(2), BookingStatus.APPROVED);
+        Booking nextBooking = createBooking(firstItem, booker, LocalDateTime.now().plusDays(1), BookingStatus.APPROVED);
+        createBooking(firstItem, booker, LocalDateTime.now().plusDays(4), BookingStatus.APPROVED);
+        createBooking(secondItem, booker, LocalDateTime.now().minusDays(1), BookingStatus.REJECTED);
+
+        List<ItemResponseDto> items = itemService.getItemsByUserId(owner.getId(), 0, 10, null);
+
+        assertThat(items, hasSize(2));
+        assertThat(items.get(0).getLastBooking().getId(), equalTo(lastBooking.getId()));
+        assertThat(items.get(0).getLastBooking().getBookerId(), equalTo(booker.getId()));
+        assertThat(items.get(0).getNextBooking().getId(), equalTo(nextBooking.getId()));
+        assertThat(items.get(1).getLastBooking(), nullValue());
+        assertThat(items.get(1).getNextBooking(), nullValue());
+    }
+
+    @Test
+    void getItemWithBookings() {
+        User owner = new User();
+        owner.setName("Owner");
+        owner.setEmail("owner@test.com");
+
+        User booker = new User();
+        booker.setName("Booker");
+        booker.setEmail("booker@test.com");
+
+        userRepository.save(owner);
+        userRepository.save(booker);
+
+        Item item = createItem(owner, "Item");
+
+        createBooking(item, booker, LocalDateTime.now().minusDays(5), BookingStatus.APPROVED);
+        Booking lastBooking = createBooking(item, booker, LocalDateTime.now().minusDays(2), BookingStatus.APPROVED);
+        createBooking(item, booker, LocalDateTime.now().plusDays(1), BookingStatus.WAITING);
+        Booking nextBooking = createBooking(item, booker, LocalDateTime.now().plusDays(2), BookingStatus.APPROVED);
+
+        ItemResponseDto ownerView = itemService.getItem(owner.getId(), item.getId());
+
+        assertThat(ownerView.getLastBooking().getId(), equalTo(lastBooking.getId()));
+        assertThat(ownerView.getLastBooking().getBookerId(), equalTo(booker.getId()));
+        assertThat(ownerView.getNextBooking().getId(), equalTo(nextBooking.getId()));
+
+        ItemResponseDto bookerView = itemService.getItem(booker.getId(), item.getId());
+
+        assertThat(bookerView.getLastBooking(), nullValue());
+        assertThat(bookerView.getNextBooking(), nullValue());
+    }
+
+    private Item createItem(User owner, String name) {
+        Item item = new Item();
+        item.setName(name);
+        item.setDescription("Description");
+        item.setAvailable(true);
+        item.setOwner(owner);
+        return itemRepository.save(item);
+    }
+
+    private Booking createBooking(Item item, User booker, LocalDateTime start, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setItem(item);
+        booking.setBooker(booker);
+        booking.setStart(start);
+        booking.setEnd(start.plusDays(1));
+        booking.setStatus(status);
+        return bookingRepository.save(booking);
+    }
 }
@@ -0,0 +1,68 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemRequestDto;
+import ru.practicum.shareit.item.dto.ItemResponseDto;
+import ru.practicum.shareit.item.search.InMemoryItemSearchIndex;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+
+@SpringBootTest(properties = "shareit.search.engine=memory")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+public class ItemMemorySearchIntegrationTest {
+    @Autowired
+    ItemService itemService;
+
+    @Autowired
+    ItemSearchIndex itemSearchIndex;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    void searchFollowsItemChanges() {
+        User user = new User();
+        user.setName("Owner");
+        user.setEmail("owner@test.com");
+        userRepository.save(user);
+
+        ItemResponseDto item = itemService.createItem(user.getId(), itemDto("Дрель", "Простая дрель"));
+
+        assertThat(itemSearchIndex, instanceOf(InMemoryItemSearchIndex.class));
+        assertThat(searchIds("дре"), contains(item.getId()));
+
+        itemService.updateItem(user.getId(), item.getId(), itemDto("Отвертка", "Крестовая"));
+        assertThat(searchIds("дрель"), empty());
+        assertThat(searchIds("отвертка"), contains(item.getId()));
+
+        itemService.deleteItem(item.getId());
+        assertThat(searchIds("отвертка"), empty());
+    }
+
+    private List<Long> searchIds(String query) {
+        return itemService.searchItem(query, 0, 10).stream()
+                .map(ItemResponseDto::getId)
+                .collect(Collectors.toList());
+    }
+
+    private ItemRequestDto itemDto(String name, String description) {
+        ItemRequestDto itemRequestDto = new ItemRequestDto();
+        itemRequestDto.setName(name);
+        itemRequestDto.setDescription(description);
+        itemRequestDto.setAvailable(true);
+        return itemRequestDto;
+    }
+}
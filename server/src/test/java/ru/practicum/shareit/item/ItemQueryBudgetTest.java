@@ -0,0 +1,98 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.QueryBudgetTest;
+import ru.practicum.shareit.StatementRecorder;
+import ru.practicum.shareit.item.dto.CommentRequestDto;
+import ru.practicum.shareit.item.dto.ItemRequestDto;
+import ru.practicum.shareit.item.dto.ItemResponseDto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.hasSize;
+
+public class ItemQueryBudgetTest extends QueryBudgetTest {
+    @Test
+    void getItemsByOwner() {
+        StatementRecorder.Recording<List<ItemResponseDto>> recording =
+                StatementRecorder.record(() -> itemService.getItemsByUserId(owner.getId(), 0, 10, null));
+
+        assertSeededItemsLoaded(recording.getResult());
+        assertBudget(recording.getStatements(), 4);
+    }
+
+    @Test
+    void getItemByOwner() {
+        assertBudget(() -> itemService.getItem(owner.getId(), items.get(0).getId()), 4);
+    }
+
+    @Test
+    void getItemByOtherUser() {
+        assertBudget(() -> itemService.getItem(booker.getId(), items.get(0).getId()), 2);
+    }
+
+    @Test
+    void searchItems() {
+        StatementRecorder.Recording<List<ItemResponseDto>> recording =
+                StatementRecorder.record(() -> itemService.searchItem("дрель", 0, 10));
+
+        assertSeededItemsLoaded(recording.getResult());
+        assertBudget(recording.getStatements(), 3);
+    }
+
+    @Test
+    void createItem() {
+        ItemRequestDto itemRequestDto = new ItemRequestDto();
+        itemRequestDto.setName("Пила");
+        itemRequestDto.setDescription("Острая");
+        itemRequestDto.setAvailable(true);
+
+        assertBudget(() -> itemService.createItem(owner.getId(), itemRequestDto), 5);
+    }
+
+    @Test
+    void updateItem() {
+        ItemRequestDto itemRequestDto = new ItemRequestDto();
+        itemRequestDto.setName("Пила");
+        itemRequestDto.setDescription("Острая");
+        itemRequestDto.setAvailable(true);
+        ItemResponseDto item = itemService.createItem(owner.getId(), itemRequestDto);
+
+        ItemRequestDto update = new ItemRequestDto();
+        update.setName("Ножовка");
+
+        assertBudget(() -> itemService.updateItem(owner.getId(), item.getId(), update), 5);
+    }
+
+    @Test
+    void deleteItem() {
+        ItemRequestDto itemRequestDto = new ItemRequestDto();
+        itemRequestDto.setName("Пила");
+        itemRequestDto.setAvailable(true);
+        ItemResponseDto item = itemService.createItem(owner.getId(), itemRequestDto);
+
+        assertBudget(() -> itemService.deleteItem(item.getId()), 3);
+    }
+
+    @Test
+    void addComment() {
+        CommentRequestDto commentRequestDto = new CommentRequestDto();
+        commentRequestDto.setText("Хорошая дрель");
+
+        assertBudget(() -> itemService.addComment(booker.getId(), items.get(1).getId(), commentRequestDto), 4);
+    }
+
+    private void assertSeededItemsLoaded(List<ItemResponseDto> result) {
+        List<ItemResponseDto> seeded = result.stream()
+                .filter(item -> items.stream().anyMatch(seededItem -> seededItem.getId() == item.getId()))
+                .collect(Collectors.toList());
+
+        assertThat(seeded, hasSize(ITEMS));
+        assertThat(seeded, everyItem(hasProperty("comments", hasSize(greaterThanOrEqualTo(COMMENTERS_PER_ITEM)))));
+    }
+}
@@ -0,0 +1,164 @@
+package ru.practicum.shareit.item;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.DatabaseItemSearchIndex;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.search.ItemTermBackfill;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+@DataJpaTest
+@Import({DatabaseItemSearchIndex.class, ItemTermBackfill.class})
+public class ItemSearchIndexTest {
+    @Autowired
+    private ItemSearchIndex itemSearchIndex;
+
+    @Autowired
+    private ItemTermBackfill itemTermBackfill;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setName("Test");
+        user.setEmail("test@test.com");
+
+        userRepository.save(user);
+    }
+
+    @Test
+    void searchItemByName() {
+        Item firstItem = createItem("First name", "Description", true);
+        createItem("Second name", "Description", true);
+
+        List<Long> foundItems = search("first");
+        assertThat(foundItems, contains(firstItem.getId()));
+    }
+
+    @Test
+    void searchItemByDescription() {
+        createItem("Name", "First description", true);
+        Item secondItem = createItem("Name", "Second description", true);
+
+        List<Long> foundItems = search("second");
+        assertThat(foundItems, contains(secondItem.getId()));
+    }
+
+    @Test
+    void searchItemByPrefixIgnoringCase() {
+        Item item = createItem("Дрель+", "Простая дрель", true);
+
+        assertThat(search("дРелЬ"), contains(item.getId()));
+        assertThat(search("дре"), contains(item.getId()));
+        assertThat(search("ель"), Matchers.empty());
+    }
+
+    @Test
+    void searchRanksNameMatchesFirst() {
+        Item descriptionMatch = createItem("Отвертка", "Аккумуляторная отвертка, не дрель", true);
+        Item nameMatch = createItem("Аккумуляторная дрель", "Дрель с зарядкой", true);
+
+        assertThat(search("дрель"), contains(nameMatch.getId(), descriptionMatch.getId()));
+        assertThat(search("аккумуляторная дрель"), contains(nameMatch.getId(), descriptionMatch.getId()));
+        assertThat(search("дрель зарядкой"), contains(nameMatch.getId()));
+    }
+
+    @Test
+    void searchSkipsUnavailableItems() {
+        createItem("Дрель", "Сломана", false);
+        Item available = createItem("Дрель", "Работает", true);
+
+        assertThat(search("дрель"), contains(available.getId()));
+    }
+
+    @Test
+    void searchAppliesPagination() {
+        Item firstItem = createItem("Дрель", "Первая", true);
+        Item secondItem = createItem("Дрель", "Вторая", true);
+        Item thirdItem = createItem("Дрель", "Третья", true);
+
+        assertThat(itemSearchIndex.search("дрель", PageRequest.of(0, 2)), contains(firstItem.getId(), secondItem.getId()));
+        assertThat(itemSearchIndex.search("дрель", PageRequest.of(1, 2)), contains(thirdItem.getId()));
+    }
+
+    @Test
+    void searchMatchesTokensLongerThanIndexedPrefix() {
+        Item item = createItem("Электроперфораторостроение", "Описание", true);
+
+        assertThat(search("электроперфораторостроение"), contains(item.getId()));
+        assertThat(search("электроперфоратор"), contains(item.getId()));
+    }
+
+    @Test
+    void updatedItemIsReindexed() {
+        Item item = createItem("Дрель", "Описание", true);
+
+        item.setName("Отвертка");
+        itemSearchIndex.index(item);
+
+        assertThat(search("дрель"), Matchers.empty());
+        assertThat(search("отвертка"), contains(item.getId()));
+    }
+
+    @Test
+    void itemsWithoutTermsAreBackfilled() {
+        Item indexed = createItem("Дрель", "Описание", true);
+        Item item = new Item();
+        item.setName("Дрель");
+        item.setDescription("Старая запись");
+        item.setAvailable(true);
+        item.setOwner(user);
+        itemRepository.save(item);
+
+        itemTermBackfill.afterSingletonsInstantiated();
+
+        assertThat(search("дрель"), contains(indexed.getId(), item.getId()));
+        assertThat(search("старая"), contains(item.getId()));
+    }
+
+    @Test
+    void removedItemIsNotFound() {
+        Item item = createItem("Дрель", "Описание", true);
+
+        itemSearchIndex.remove(item.getId());
+
+        assertThat(search("дрель"), Matchers.empty());
+    }
+
+    private List<Long> search(String query) {
+        return itemSearchIndex.search(query, PageRequest.of(0, 10));
+    }
+
+    private Item createItem(String name, String description, boolean available) {
+        Item item = new Item();
+        item.setName(name);
+        item.setDescription(description);
+        item.setAvailable(available);
+        item.setOwner(user);
+        item.setRequest(null);
+
+        itemRepository.save(item);
+        itemSearchIndex.index(item);
+        return item;
+    }
+}
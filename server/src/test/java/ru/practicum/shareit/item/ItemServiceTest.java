@@ -1,5 +1,6 @@
 package ru.practicum.shareit.item;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -7,8 +8,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.dto.BookingShortDto;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.ItemUnavailableException;
@@ -21,10 +24,15 @@ import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.search.ItemDeletedEvent;
+import ru.practicum.shareit.item.search.ItemSavedEvent;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.requests.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceCache;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -34,6 +42,7 @@ import java.util.Optional;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 
@@ -56,13 +65,22 @@ public class ItemServiceTest {
     @Mock
     private ItemRequestRepository itemRequestRepository;
 
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         itemService = new ItemService(itemRepository,
                 userRepository,
+                new UserExistenceCache(userRepository, new SimpleMeterRegistry(), 100),
                 bookingRepository,
                 commentRepository,
-                itemRequestRepository);
+                itemRequestRepository,
+                itemSearchIndex,
+                eventPublisher);
     }
 
     @Test
@@ -71,7 +89,7 @@ public class ItemServiceTest {
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(new User()));
 
-        itemService.getItemsByUserId(1, 0, 10);
+        itemService.getItemsByUserId(1, 0, 10, null);
 
         Mockito.verify(userRepository, Mockito.times(1)).findById(1L);
         Mockito
@@ -80,10 +98,75 @@ public class ItemServiceTest {
         Mockito.verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository);
     }
 
+    @Test
+    void getItemsByUserIdAndCursorTest() {
+        Mockito
+                .when(userRepository.findById(anyLong()))
+                .thenReturn(Optional.of(new User()));
+
+        itemService.getItemsByUserId(1, 0, 10, PageCursor.of(5).encode());
+
+        Mockito
+                .verify(itemRepository, Mockito.times(1))
+                .findItemsByOwner_IdAndIdGreaterThan(eq(1L), eq(5L), any(Pageable.class));
+        Mockito.verifyNoMoreInteractions(itemRepository, bookingRepository, commentRepository);
+    }
+
+    @Test
+    void getItemsByUserIdWithBookingsTest() {
+        User owner = new User();
+        owner.setId(1);
+
+        User booker = new User();
+        booker.setId(2);
+
+        Item firstItem = new Item();
+        firstItem.setId(1);
+        firstItem.setOwner(owner);
+        firstItem.setBookings(Collections.emptyList());
+
+        Item secondItem = new Item();
+        secondItem.setId(2);
+        secondItem.setOwner(owner);
+        secondItem.setBookings(Collections.emptyList());
+
+        BookingShortDto lastBooking = new BookingShortDto(1, booker.getId(), firstItem.getId(),
+                LocalDateTime.now().minusDays(2));
+        BookingShortDto nextBooking = new BookingShortDto(2, booker.getId(), firstItem.getId(),
+                LocalDateTime.now().plusDays(2));
+        BookingShortDto secondItemBooking = new BookingShortDto(3, booker.getId(), secondItem.getId(),
+                LocalDateTime.now().plusDays(1));
+
+        Mockito
+                .when(userRepository.findById(anyLong()))
+                .thenReturn(Optional.of(owner));
+        Mockito
+                .when(itemRepository.findItemsByOwner_Id(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(firstItem, secondItem));
+        Mockito
+                .when(bookingRepository.findLastAndNextBookingsByItemIds(anyCollection(),
+                        any(LocalDateTime.class),
+                        any(BookingStatus.class)))
+                .thenReturn(List.of(lastBooking, nextBooking, secondItemBooking));
+
+        List<ItemResponseDto> items = itemService.getItemsByUserId(1, 0, 10, null);
+
+        assertThat(items, hasSize(2));
+        assertThat(items.get(0).getLastBooking().getId(), equalTo(lastBooking.getId()));
+        assertThat(items.get(0).getNextBooking().getId(), equalTo(nextBooking.getId()));
+        assertThat(items.get(1).getLastBooking(), nullValue());
+        assertThat(items.get(1).getNextBooking().getId(), equalTo(secondItemBooking.getId()));
+        Mockito
+                .verify(bookingRepository, Mockito.times(1))
+                .findLastAndNextBookingsByItemIds(anyCollection(), any(LocalDateTime.class), eq(BookingStatus.APPROVED));
+        Mockito.verify(commentRepository, Mockito.times(1)).findCommentsByItem_IdInOrderByIdAsc(List.of(1L, 2L));
+        Mockito.verifyNoMoreInteractions(bookingRepository, commentRepository);
+    }
+
     @Test
     void getItemByUserNotFoundTest() {
         Exception exception = assertThrows(UnitNotFoundException.class,
-                () -> itemService.getItemsByUserId(1, 0, 10));
+                () -> itemService.getItemsByUserId(1, 0, 10, null));
         assertThat(exception.getMessage(), equalTo("Пользователь с id = 1 не найден"));
 
         Mockito.verify(userRepository, Mockito.times(1)).findById(1L);
@@ -99,23 +182,75 @@ public class ItemServiceTest {
         item.setId(1);
         item.setOwner(user);
 
+        User author = new User();
+        author.setName("Author");
+
+        Comment comment = new Comment();
+        comment.setId(1);
+        comment.setText("Comment");
+        comment.setItem(item);
+        comment.setAuthor(author);
+
         Mockito
-                .when(itemRepository.findById(anyLong()))
+                .when(itemRepository.findWithOwnerById(anyLong()))
                 .thenReturn(Optional.of(item));
+        Mockito
+                .when(commentRepository.findCommentsByItem_IdInOrderByIdAsc(anyCollection()))
+                .thenReturn(List.of(comment));
 
-        itemService.getItem(1, 1);
+        ItemResponseDto itemDto = itemService.getItem(1, 1);
 
-        Mockito.verify(itemRepository, Mockito.times(1)).findById(1L);
+        assertThat(itemDto.getComments(), hasSize(1));
+        assertThat(itemDto.getComments().get(0).getAuthorName(), equalTo(author.getName()));
+        Mockito.verify(itemRepository, Mockito.times(1)).findWithOwnerById(1L);
+        Mockito.verify(commentRepository, Mockito.times(1)).findCommentsByItem_IdInOrderByIdAsc(List.of(1L));
         Mockito.verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository);
     }
 
+    @Test
+    void getItemByOwnerTest() {
+        User user = new User();
+        user.setId(1);
+
+        Item item = new Item();
+        item.setId(1);
+        item.setOwner(user);
+        item.setBookings(Collections.emptyList());
+
+        BookingShortDto lastBooking = new BookingShortDto(1, 2, item.getId(), LocalDateTime.now().minusDays(1));
+
+        Mockito
+                .when(itemRepository.findWithOwnerById(anyLong()))
+                .thenReturn(Optional.of(item));
+        Mockito
+                .when(bookingRepository.findLastBookingsByItemId(anyLong(),
+                        any(LocalDateTime.class),
+                        any(BookingStatus.class),
+                        any(Pageable.class)))
+                .thenReturn(List.of(lastBooking));
+
+        ItemResponseDto itemDto = itemService.getItem(1, 1);
+
+        assertThat(itemDto.getLastBooking().getId(), equalTo(lastBooking.getId()));
+        assertThat(itemDto.getLastBooking().getBookerId(), equalTo(lastBooking.getBookerId()));
+        assertThat(itemDto.getNextBooking(), nullValue());
+        Mockito
+                .verify(bookingRepository, Mockito.times(1))
+                .findLastBookingsByItemId(eq(1L), any(LocalDateTime.class), eq(BookingStatus.APPROVED), eq(PageRequest.of(0, 1)));
+        Mockito
+                .verify(bookingRepository, Mockito.times(1))
+                .findNextBookingsByItemId(eq(1L), any(LocalDateTime.class), eq(BookingStatus.APPROVED), eq(PageRequest.of(0, 1)));
+        Mockito.verify(commentRepository, Mockito.times(1)).findCommentsByItem_IdInOrderByIdAsc(List.of(1L));
+        Mockito.verifyNoMoreInteractions(bookingRepository, userRepository, commentRepository);
+    }
+
     @Test
     void getItemNotFoundTest() {
         Exception exception = assertThrows(UnitNotFoundException.class,
                 () -> itemService.getItem(1, 1));
         assertThat(exception.getMessage(), equalTo("Вещь с id = 1 не найдена"));
 
-        Mockito.verify(itemRepository, Mockito.times(1)).findById(1L);
+        Mockito.verify(itemRepository, Mockito.times(1)).findWithOwnerById(1L);
         Mockito.verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository);
     }
 
@@ -145,6 +280,7 @@ public class ItemServiceTest {
         itemService.createItem(1L, itemRequestDto);
 
         Mockito.verify(itemRepository, Mockito.times(1)).save(itemArgumentCaptor.capture());
+        Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(new ItemSavedEvent(item));
 
         Item capturedItem = itemArgumentCaptor.getValue();
 
@@ -162,7 +298,7 @@ public class ItemServiceTest {
         item.setOwner(user);
 
         Mockito
-                .when(itemRepository.findById(anyLong()))
+                .when(itemRepository.findWithOwnerById(anyLong()))
                 .thenReturn(Optional.of(item));
         Mockito
                 .when(userRepository.findById(anyLong()))
@@ -190,7 +326,7 @@ public class ItemServiceTest {
         item.setOwner(user);
 
         Mockito
-                .when(itemRepository.findById(anyLong()))
+                .when(itemRepository.findWithOwnerById(anyLong()))
                 .thenReturn(Optional.of(item));
         Mockito
                 .when(userRepository.findById(anyLong()))
@@ -217,17 +353,52 @@ public class ItemServiceTest {
 
         itemService.deleteItem(1);
 
+        Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(new ItemDeletedEvent(item.getId()));
         Mockito.verify(itemRepository, Mockito.times(1)).delete(item);
         Mockito.verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository);
     }
 
     @Test
     void searchItemsTest() {
-        itemService.searchItem("Test", 0, 10);
+        User user = new User();
+        user.setId(1);
+
+        Item firstItem = new Item();
+        firstItem.setId(1);
+        firstItem.setOwner(user);
+
+        Item secondItem = new Item();
+        secondItem.setId(2);
+        secondItem.setOwner(user);
 
         Mockito
-                .verify(itemRepository, Mockito.times(1))
-                .searchItems(anyString(), any(Pageable.class));
+                .when(itemSearchIndex.search(anyString(), any(Pageable.class)))
+                .thenReturn(List.of(2L, 1L));
+        Mockito
+                .when(itemRepository.findItemsByIdIn(anyCollection()))
+                .thenReturn(List.of(firstItem, secondItem));
+
+        List<ItemResponseDto> items = itemService.searchItem("Test", 0, 10);
+
+        assertThat(items, hasSize(2));
+        assertThat(items.get(0).getId(), equalTo(secondItem.getId()));
+        assertThat(items.get(1).getId(), equalTo(firstItem.getId()));
+        Mockito
+                .verify(itemSearchIndex, Mockito.times(1))
+                .search("Test", PageRequest.of(0, 10));
+        Mockito.verify(itemRepository, Mockito.times(1)).findItemsByIdIn(List.of(2L, 1L));
+        Mockito.verify(commentRepository, Mockito.times(1)).findCommentsByItem_IdInOrderByIdAsc(List.of(2L, 1L));
+        Mockito.verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository);
+    }
+
+    @Test
+    void searchItemsNotFoundTest() {
+        List<ItemResponseDto> items = itemService.searchItem("Test", 0, 10);
+
+        assertThat(items, hasSize(0));
+        Mockito
+                .verify(itemSearchIndex, Mockito.times(1))
+                .search("Test", PageRequest.of(0, 10));
         Mockito.verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository);
     }
 
@@ -244,15 +415,9 @@ public class ItemServiceTest {
         Item item = new Item();
         item.setId(1);
 
-        Booking booking = new Booking();
-        booking.setStatus(BookingStatus.APPROVED);
-        booking.setItem(item);
-        booking.setStart(LocalDateTime.now().minusDays(1));
-
         User user = new User();
         user.setId(1);
         user.setName("User name");
-        user.setBookings(List.of(booking));
 
         Comment comment = new Comment();
         comment.setId(1);
@@ -270,6 +435,10 @@ public class ItemServiceTest {
         Mockito
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(user));
+        Mockito
+                .when(bookingRepository.existsByBooker_IdAndItem_IdAndStatusAndStartBefore(
+                        eq(1L), eq(1L), eq(BookingStatus.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(true);
         Mockito
                 .when(commentRepository.save(any(Comment.class)))
                 .thenReturn(comment);
@@ -291,14 +460,8 @@ public class ItemServiceTest {
         Item item = new Item();
         item.setId(1);
 
-        Booking booking = new Booking();
-        booking.setStatus(BookingStatus.APPROVED);
-        booking.setItem(item);
-        booking.setStart(LocalDateTime.now().minusDays(1));
-
         User user = new User();
         user.setId(1);
-        user.setBookings(Collections.emptyList());
 
         CommentRequestDto commentRequestDto = new CommentRequestDto();
         commentRequestDto.setText("Test comment");
@@ -314,6 +477,10 @@ public class ItemServiceTest {
         Exception exception = assertThrows(ItemUnavailableException.class,
                 () -> itemService.addComment(1, 1, commentRequestDto));
         assertThat(exception.getMessage(), equalTo("Пользователь с id = 1 не может оставить комментарий к вещи с id = 1, так как еще не бронировал ее"));
+        Mockito
+                .verify(bookingRepository, Mockito.times(1))
+                .existsByBooker_IdAndItem_IdAndStatusAndStartBefore(
+                        eq(1L), eq(1L), eq(BookingStatus.APPROVED), any(LocalDateTime.class));
         Mockito.verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository);
     }
 }
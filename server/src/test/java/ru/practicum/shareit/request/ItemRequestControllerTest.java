@@ -94,7 +94,7 @@ public class ItemRequestControllerTest {
     @Test
     void getItemRequestsTest() throws Exception {
         Mockito
-                .when(itemRequestService.getItemRequests(anyLong(), anyInt(), anyInt()))
+                .when(itemRequestService.getItemRequests(anyLong(), anyInt(), anyInt(), isNull()))
                 .thenReturn(List.of(itemRequestDto));
 
         mockMvc.perform(MockMvcRequestBuilders.get("/requests/all")
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.request;
+
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.QueryBudgetTest;
+import ru.practicum.shareit.requests.dto.ItemReqRequestDto;
+
+public class ItemRequestQueryBudgetTest extends QueryBudgetTest {
+    @Test
+    void getItemRequest() {
+        assertBudget(() -> itemRequestService.getItemRequestById(owner.getId(), itemRequests.get(0).getId()), 3);
+    }
+
+    @Test
+    void getItemRequestsByUser() {
+        assertBudget(() -> itemRequestService.getItemRequestsByUser(requestor.getId()), 3);
+    }
+
+    @Test
+    void getItemRequests() {
+        assertBudget(() -> itemRequestService.getItemRequests(owner.getId(), 0, 10, null), 3);
+    }
+
+    @Test
+    void createItemRequest() {
+        ItemReqRequestDto itemReqRequestDto = new ItemReqRequestDto();
+        itemReqRequestDto.setDescription("Нужна пила");
+
+        assertBudget(() -> itemRequestService.createItemRequest(booker.getId(), itemReqRequestDto), 2);
+    }
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,6 +11,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.exception.UnitNotFoundException;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.requests.dto.ItemReqRequestDto;
 import ru.practicum.shareit.requests.dto.ItemReqResponseDto;
 import ru.practicum.shareit.requests.model.ItemRequest;
@@ -17,7 +20,9 @@ import ru.practicum.shareit.requests.repository.ItemRequestRepository;
 import ru.practicum.shareit.requests.service.ItemRequestService;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceCache;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,7 +31,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
 public class ItemRequestServiceTest {
@@ -38,9 +45,13 @@ public class ItemRequestServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ItemRepository itemRepository;
+
     @BeforeEach
     void setUp() {
-        itemRequestService = new ItemRequestService(itemRequestRepository, userRepository);
+        itemRequestService = new ItemRequestService(itemRequestRepository, userRepository,
+                new UserExistenceCache(userRepository, new SimpleMeterRegistry(), 100), itemRepository);
     }
 
     @Test
@@ -85,13 +96,14 @@ public class ItemRequestServiceTest {
         Mockito
                 .verify(itemRequestRepository, Mockito.times(1))
                 .findItemRequestsByRequestor_Id(anyLong(), any(Sort.class));
-        Mockito.verifyNoMoreInteractions(itemRequestRepository, userRepository);
+        Mockito.verify(itemRepository, Mockito.times(1)).findItemsByRequest_IdIn(anyCollection());
+        Mockito.verifyNoMoreInteractions(itemRequestRepository, userRepository, itemRepository);
     }
 
     @Test
     void getItemRequestsByUserNotFoundTest() {
         Exception exception = assertThrows(UnitNotFoundException.class,
-                () -> itemRequestService.getItemRequests(1, 1, 1));
+                () -> itemRequestService.getItemRequests(1, 1, 1, null));
         assertThat(exception.getMessage(), equalTo("Пользователь с id = 1 не найден"));
 
         Mockito.verify(userRepository, Mockito.times(1)).findById(1L);
@@ -107,11 +119,27 @@ public class ItemRequestServiceTest {
                 .when(itemRequestRepository.findItemRequestsByRequestor_IdIsNot(anyLong(), any(Pageable.class)))
                 .thenReturn(List.of(new ItemRequest(), new ItemRequest()));
 
-        itemRequestService.getItemRequests(1, 0, 10);
+        itemRequestService.getItemRequests(1, 0, 10, null);
 
         Mockito
                 .verify(itemRequestRepository, Mockito.times(1))
                 .findItemRequestsByRequestor_IdIsNot(anyLong(), any(Pageable.class));
+        Mockito.verify(itemRepository, Mockito.times(1)).findItemsByRequest_IdIn(anyCollection());
+        Mockito.verifyNoMoreInteractions(itemRequestRepository, userRepository, itemRepository);
+    }
+
+    @Test
+    void getItemRequestsByCursorTest() {
+        LocalDateTime created = LocalDateTime.now();
+        Mockito
+                .when(userRepository.findById(anyLong()))
+                .thenReturn(Optional.of(new User()));
+
+        itemRequestService.getItemRequests(1, 0, 10, PageCursor.of(created, 5).encode());
+
+        Mockito
+                .verify(itemRequestRepository, Mockito.times(1))
+                .findItemRequestsCreatedBefore(eq(1L), eq(created), eq(5L), any(Pageable.class));
         Mockito.verifyNoMoreInteractions(itemRequestRepository, userRepository);
     }
 
@@ -121,7 +149,7 @@ public class ItemRequestServiceTest {
                 .when(userRepository.findById(anyLong()))
                 .thenReturn(Optional.of(new User()));
 
-        List<ItemReqResponseDto> itemRequestsDto = itemRequestService.getItemRequests(1, 1, 1);
+        List<ItemReqResponseDto> itemRequestsDto = itemRequestService.getItemRequests(1, 1, 1, null);
 
         assertThat(itemRequestsDto, hasSize(0));
         Mockito.verify(itemRequestRepository, Mockito.times(1)).findItemRequestsByRequestor_IdIsNot(anyLong(), any(Pageable.class));
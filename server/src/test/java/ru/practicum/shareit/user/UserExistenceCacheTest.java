@@ -0,0 +1,117 @@
+package ru.practicum.shareit.user;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.exception.UnitNotFoundException;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserExistenceCache;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+@ExtendWith(MockitoExtension.class)
+public class UserExistenceCacheTest {
+    private UserExistenceCache userExistenceCache;
+
+    private MeterRegistry meterRegistry;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userExistenceCache = new UserExistenceCache(userRepository, meterRegistry, 2);
+    }
+
+    @Test
+    void knownUserIsNotLoadedAgain() {
+        Mockito
+                .when(userRepository.findById(anyLong()))
+                .thenReturn(Optional.of(new User()));
+
+        userExistenceCache.checkExists(1);
+        userExistenceCache.checkExists(1);
+        userExistenceCache.checkExists(1);
+
+        assertThat(counter("hit"), equalTo(2.0));
+        assertThat(counter("miss"), equalTo(1.0));
+        assertThat(meterRegistry.get("shareit.users.cache.size").gauge().value(), equalTo(1.0));
+        Mockito.verify(userRepository, Mockito.times(1)).findById(1L);
+        Mockito.verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void unknownUserIsNotCached() {
+        Exception exception = assertThrows(UnitNotFoundException.class, () -> userExistenceCache.checkExists(1));
+        assertThat(exception.getMessage(), equalTo("Пользователь с id = 1 не найден"));
+        assertThrows(UnitNotFoundException.class, () -> userExistenceCache.checkExists(1));
+
+        assertThat(userExistenceCache.size(), equalTo(0));
+        Mockito.verify(userRepository, Mockito.times(2)).findById(1L);
+        Mockito.verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void multiInstanceServerDoesNotCache() {
+        userExistenceCache = new UserExistenceCache(userRepository, meterRegistry, 2, true);
+        Mockito
+                .when(userRepository.findById(anyLong()))
+                .thenReturn(Optional.of(new User()));
+
+        userExistenceCache.checkExists(1);
+        userExistenceCache.checkExists(1);
+
+        assertThat(userExistenceCache.size(), equalTo(0));
+        Mockito.verify(userRepository, Mockito.times(2)).findById(1L);
+    }
+
+    @Test
+    void cacheIsBounded() {
+        for (long userId = 1; userId <= 10; userId++) {
+            userExistenceCache.add(userId);
+        }
+
+        assertThat(userExistenceCache.size(), equalTo(2));
+    }
+
+    @Test
+    void deletedUserIsEvicted() {
+        userExistenceCache.add(1);
+
+        userExistenceCache.evict(1);
+
+        assertThrows(UnitNotFoundException.class, () -> userExistenceCache.checkExists(1));
+    }
+
+    @Test
+    void userDeletedDuringLookupIsNotCached() {
+        Mockito
+                .when(userRepository.findById(anyLong()))
+                .thenAnswer(invocation -> {
+                    userExistenceCache.evict(1);
+                    return Optional.of(new User());
+                });
+
+        userExistenceCache.checkExists(1);
+
+        assertThat(userExistenceCache.size(), equalTo(0));
+        Mockito.reset(userRepository);
+        assertThrows(UnitNotFoundException.class, () -> userExistenceCache.checkExists(1));
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("shareit.users.cache.requests").tag("result", result).counter().count();
+    }
+}
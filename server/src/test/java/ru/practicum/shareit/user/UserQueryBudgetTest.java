@@ -0,0 +1,48 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import ru.practicum.shareit.QueryBudgetTest;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserExistenceCache;
+
+public class UserQueryBudgetTest extends QueryBudgetTest {
+    @Autowired
+    private UserExistenceCache userExistenceCache;
+
+    @Test
+    void getUsers() {
+        assertBudget(() -> userService.getUsers(), 1);
+    }
+
+    @Test
+    void getUser() {
+        assertBudget(() -> userService.getUser(owner.getId()), 1);
+    }
+
+    @Test
+    void createUser() {
+        assertBudget(() -> createUser("created"), 1);
+    }
+
+    @Test
+    void updateUser() {
+        UserDto userDto = new UserDto();
+        userDto.setName("Updated");
+
+        assertBudget(() -> userService.updateUser(requestor.getId(), userDto), 2);
+    }
+
+    @Test
+    void deleteUser() {
+        UserDto user = createUser("deleted");
+
+        assertBudget(() -> userService.deleteUser(user.getId()), 2);
+    }
+
+    @Test
+    void checkKnownUser() {
+        assertBudget(() -> userExistenceCache.checkExists(requestor.getId()), 1);
+        assertBudget(() -> userExistenceCache.checkExists(requestor.getId()), 0);
+    }
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.user;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +12,8 @@ import ru.practicum.shareit.exception.UnitNotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.CascadeCacheEvictor;
+import ru.practicum.shareit.user.service.UserExistenceCache;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.util.Optional;
@@ -26,11 +29,15 @@ public class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CascadeCacheEvictor cascadeCacheEvictor;
+
     private UserService userService;
 
     @BeforeEach
     void setUp() {
-        userService = new UserService(userRepository);
+        userService = new UserService(userRepository,
+                new UserExistenceCache(userRepository, new SimpleMeterRegistry(), 100), cascadeCacheEvictor);
     }
 
     @Test